@@ -1,6 +1,7 @@
 package com.employee_manager_api;
 
 import com.employee_manager_api.config.DatabaseConnection;
+import com.employee_manager_api.server.EmployeeHttpServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -10,7 +11,13 @@ public class MainClass {
 
     private static final Logger logger = LogManager.getLogger(MainClass.class);
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // Con el argumento "server" levanta la API como servidor HTTP en lugar de probar la conexion
+        if (args.length > 0 && "server".equalsIgnoreCase(args[0])) {
+            EmployeeHttpServer.main(args);
+            return;
+        }
+
         try {
             logger.info("Probando conexion a la base de datos...");
 
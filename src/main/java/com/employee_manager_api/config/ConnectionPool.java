@@ -0,0 +1,130 @@
+package com.employee_manager_api.config;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool de conexiones de tamaño fijo para procesos de larga duracion (modo
+ * servidor). Entrega conexiones envueltas cuyo close() las devuelve al pool en
+ * lugar de cerrarlas, por lo que el repositorio puede seguir usando
+ * try-with-resources sin cambios.
+ */
+public class ConnectionPool implements ConnectionProvider, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+
+    // Origen de las conexiones fisicas
+    private final ConnectionProvider factory;
+    private final LinkedBlockingDeque<Connection> idle = new LinkedBlockingDeque<>();
+    // Limita la cantidad de conexiones prestadas al mismo tiempo
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionProvider factory, int maxSize, long acquireTimeoutMillis) {
+        this.factory = factory;
+        this.permits = new Semaphore(Math.max(1, maxSize), true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    // Presta una conexion, reutilizando una libre y valida o abriendo una nueva si hace falta
+    @Override
+    public Connection getConnection() throws Exception {
+        if (closed) {
+            throw new SQLException("El pool de conexiones esta cerrado.");
+        }
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            // Transitoria: otro intento puede encontrar una conexion libre
+            throw new SQLTransientConnectionException("No hay conexiones disponibles en el pool tras " + acquireTimeoutMillis + " ms.");
+        }
+        try {
+            Connection physical;
+            while ((physical = idle.pollFirst()) != null) {
+                if (physical.isValid(1)) {
+                    return wrap(physical);
+                }
+                closeQuietly(physical);
+            }
+            return wrap(factory.getConnection());
+        } catch (Exception e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // Devuelve la conexion al pool, o la descarta si quedo en un estado no reutilizable
+    private void release(Connection physical) {
+        try {
+            if (closed || physical.isClosed()) {
+                closeQuietly(physical);
+            } else {
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                idle.offerFirst(physical);
+            }
+        } catch (SQLException e) {
+            logger.warn("[Pool] Conexion descartada al devolverla: {}", e.getMessage());
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Envuelve la conexion fisica para interceptar close(). Un segundo close() no tiene efecto.
+    private Connection wrap(Connection physical) {
+        boolean[] released = {false};
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            synchronized (released) {
+                                if (!released[0]) {
+                                    released[0] = true;
+                                    release(physical);
+                                }
+                            }
+                            return null;
+                        case "isClosed":
+                            synchronized (released) {
+                                return released[0] || physical.isClosed();
+                            }
+                        default:
+                            try {
+                                return method.invoke(physical, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    // Cierra las conexiones libres. Las prestadas se cierran cuando sean devueltas.
+    @Override
+    public void close() {
+        closed = true;
+        Connection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            closeQuietly(physical);
+        }
+        logger.info("[Pool] Pool de conexiones cerrado.");
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warn("[Pool] Error al cerrar conexion: {}", e.getMessage());
+        }
+    }
+}
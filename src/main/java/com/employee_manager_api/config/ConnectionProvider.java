@@ -0,0 +1,10 @@
+package com.employee_manager_api.config;
+
+import java.sql.Connection;
+
+// Origen de conexiones JDBC para el repositorio. Permite reemplazar RDS por una base local o un pool.
+@FunctionalInterface
+public interface ConnectionProvider {
+
+    Connection getConnection() throws Exception;
+}
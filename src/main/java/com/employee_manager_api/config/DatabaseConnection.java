@@ -35,6 +35,11 @@ public class DatabaseConnection {
     // Conexion a la base de datos
     private Connection connection;
 
+    // Datos de conexion resueltos, para poder abrir conexiones adicionales (ej. un pool) sin volver a consultar AWS
+    private String url;
+    private String username;
+    private String password;
+
     // Variables de entorno necesarias para conectar a AWS y obtener los secretos
     private static final String SECRET_ARN = EnvLoad.get("SECRET_ARN");
     private static final String AWS_REGION = EnvLoad.get("MY_AWS_REGION");
@@ -70,8 +75,8 @@ public class DatabaseConnection {
 
         // Parsea el JSON y obtiene credenciales de acceso
         JsonObject secretJson = JsonParser.parseString(response.secretString()).getAsJsonObject();
-        String username = secretJson.get("username").getAsString();
-        String password = secretJson.get("password").getAsString();
+        this.username = secretJson.get("username").getAsString();
+        this.password = secretJson.get("password").getAsString();
         String dbIdentifier = secretJson.has("dbInstanceIdentifier") && !secretJson.get("dbInstanceIdentifier").isJsonNull()
                 ? secretJson.get("dbInstanceIdentifier").getAsString()
                 : DB_INSTANCE_IDENTIFIER;
@@ -97,7 +102,7 @@ public class DatabaseConnection {
         logger.info("Endpoint de RDS: {}:{}", host, port);
 
         // Construye la cadena de conexion JDBC
-        String url = String.format(
+        this.url = String.format(
                 "jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC",
                 host, port, dbIdentifier
         );
@@ -126,6 +131,11 @@ public class DatabaseConnection {
         return connection;
     }
 
+    // Abre una conexion nueva e independiente con las mismas credenciales
+    public Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(url, username, password);
+    }
+
     // Cierra la conexion si esta abierta
     public void closeConnection() {
         try {
@@ -7,8 +7,9 @@ public class EnvLoad {
     // Determina si la aplicacion se esta ejecutando en AWS Lambda
     private static final boolean isRunningOnLambda = System.getenv("AWS_LAMBDA_FUNCTION_NAME") != null;
 
-    // Si no estamos en Lambda, cargamos las variables desde el archivo .env
-    private static final Dotenv dotenv = isRunningOnLambda ? null : Dotenv.load();
+    // Si no estamos en Lambda, cargamos las variables desde el archivo .env.
+    // El archivo es opcional: un contenedor (modo servidor) puede recibir toda la configuracion por entorno.
+    private static final Dotenv dotenv = isRunningOnLambda ? null : Dotenv.configure().ignoreIfMissing().load();
 
     // Devuelve el valor de una variable de entorno
     // Prioriza valores del sistema, y si no esta en Lambda, busca en el archivo .env
@@ -21,4 +22,17 @@ public class EnvLoad {
 
         return value;
     }
+
+    // Devuelve el valor numerico de una variable de entorno, o el valor por defecto si no esta definida o no es valida
+    public static long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
 }
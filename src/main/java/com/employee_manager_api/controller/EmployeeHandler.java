@@ -4,11 +4,15 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.google.gson.Gson;
 import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.domain.entity.EmployeeVersion;
+import com.employee_manager_api.resilience.PartialResult;
 import com.employee_manager_api.service.EmployeeService;
 import com.employee_manager_api.util.FormatUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,14 +20,26 @@ import java.util.Map;
 public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<String, Object>> {
 
     private static final Logger logger = LogManager.getLogger(EmployeeHandler.class);
-    private final EmployeeService employeeService = new EmployeeService();
+    private final EmployeeService employeeService;
     private final Gson gson = new Gson();
 
+    // Constructor sin argumentos requerido por AWS Lambda
+    public EmployeeHandler() {
+        this(new EmployeeService());
+    }
+
+    // Permite ejecutar el handler fuera de Lambda con un servicio armado a medida
+    public EmployeeHandler(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
     // Metodo principal que actua como punto de entrada para AWS Lambda
     @Override
     public Map<String, Object> handleRequest(Map<String, Object> input, Context context) {
         // Objeto response que es serializado a un JSON como respuesta HTTP
         Map<String, Object> response = new HashMap<>();
+        // Cabeceras de la respuesta, los handlers pueden agregar cabeceras propias
+        Map<String, String> headers = new HashMap<>();
         try {
             logger.info("Input entrante: {}", input);
 
@@ -40,6 +56,10 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
 
             logger.info("Proxy path recibido: {}", proxyPath);
 
+            // Parametro opcional ?asOf=yyyy-MM-dd, solo lo usan GET /employees y GET /employees/{id}
+            Map<String, String> queryParams = (Map<String, String>) input.get("queryStringParameters");
+            final String asOfParam = (queryParams != null) ? queryParams.get("asOf") : null;
+
             //Map "padre" que contendra posteriormente los subMapas correspondientes a las distintas rutas bajo /employee
             Map<String, Map<String, Runnable>> routeHandlers = new HashMap<>();
 
@@ -49,13 +69,20 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
             Map<String, Runnable> employeeIdHandlers = new HashMap<>();
             // Submapa de handlers para ruta "/employees/salary/top"
             Map<String, Runnable> topSalaryHandlers = new HashMap<>();
+            // Submapa de handlers para rutas tipo "/employees/{id}/history"
+            Map<String, Runnable> employeeHistoryHandlers = new HashMap<>();
 
             // /employees GET
             employeesHandlers.put("GET", () -> {
                 //Devuelve una lista con todos los empleados, en caso exitoso, devuelve un codigo de estado HTTP 200, Ok.
                 try {
+                    LocalDate asOf = parseAsOf(asOfParam);
+                    if (asOfParam != null && asOf == null) {
+                        rejectAsOf(asOfParam, response);
+                        return;
+                    }
                     logger.info("Obteniendo todos los empleados");
-                    List<Employee> employees = employeeService.getAllEmployees();
+                    List<Employee> employees = employeeService.getAllEmployees(asOf);
                     response.put("statusCode", 200);
                     response.put("body", gson.toJson(employees));
                 } catch (Exception e) {
@@ -90,8 +117,13 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
                     if (id == null) {
                         return;
                     }
+                    LocalDate asOf = parseAsOf(asOfParam);
+                    if (asOfParam != null && asOf == null) {
+                        rejectAsOf(asOfParam, response);
+                        return;
+                    }
                     logger.info("Obteniendo empleado con ID: {}", id);
-                    Employee emp = employeeService.getEmployeeById(id);
+                    Employee emp = employeeService.getEmployeeById(id, asOf);
                     response.put("statusCode", 200);
                     if (emp == null) {
                         response.put("body", FormatUtils.jsonMessage("error", "No se encontro ningun usuario con el id: " + id));
@@ -151,9 +183,14 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
                 // Devuelve top 10 empleados con mayor salario
                 try {
                     logger.info("Obteniendo empleados con los mayores salarios");
-                    List<Employee> topEmployees = employeeService.getTopSalaries();
+                    PartialResult<Employee> topEmployees = employeeService.getTopSalariesReport();
                     response.put("statusCode", 200);
-                    response.put("body", gson.toJson(topEmployees));
+                    response.put("body", gson.toJson(topEmployees.getItems()));
+                    // Si algun archivo no pudo leerse, se informa en cabeceras sin alterar el formato del body
+                    if (!topEmployees.isComplete()) {
+                        headers.put("X-Partial-Result", "true");
+                        headers.put("X-Skipped-Files", String.join(",", topEmployees.getSkipped()));
+                    }
                 } catch (Exception e) {
                     logger.error("Error al obtener empleados con mayores salarios", e);
                     response.put("statusCode", 500);
@@ -161,13 +198,35 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
                 }
             });
 
+            // /employees/{id}/history GET
+            employeeHistoryHandlers.put("GET", () -> {
+                // Devuelve todas las versiones de un empleado, de la mas antigua a la mas reciente
+                try {
+                    Integer id = extractIdFromProxy(proxyPath, response);
+                    if (id == null) {
+                        return;
+                    }
+                    logger.info("Obteniendo historial del empleado con ID: {}", id);
+                    List<EmployeeVersion> history = employeeService.getEmployeeHistory(id);
+                    response.put("statusCode", 200);
+                    response.put("body", gson.toJson(history));
+                } catch (Exception e) {
+                    logger.error("Error al obtener historial del empleado", e);
+                    response.put("statusCode", 500);
+                    response.put("body", FormatUtils.jsonMessage("error", "Error al obtener historial del empleado: " + e.getMessage()));
+                }
+            });
+
             // Cargo todos los submapas en el mapa principal para gestionarlos segun la ruta
             routeHandlers.put("/employees", employeesHandlers);
             routeHandlers.put("/employees/{id}", employeeIdHandlers);
             routeHandlers.put("/employees/salary/top", topSalaryHandlers);
+            routeHandlers.put("/employees/{id}/history", employeeHistoryHandlers);
 
             // Logica de ruteo manual basada en proxyPath y metodo HTTP
-            if (proxyPath != null && proxyPath.matches("employees/\\d+") && employeeIdHandlers.containsKey(httpMethod)) {
+            if (proxyPath != null && proxyPath.matches("employees/\\d+/history") && employeeHistoryHandlers.containsKey(httpMethod)) {
+                employeeHistoryHandlers.get(httpMethod).run();
+            } else if (proxyPath != null && proxyPath.matches("employees/\\d+") && employeeIdHandlers.containsKey(httpMethod)) {
                 employeeIdHandlers.get(httpMethod).run();
             } else if ("employees".equals(proxyPath) && employeesHandlers.containsKey(httpMethod)) {
                 employeesHandlers.get(httpMethod).run();
@@ -186,19 +245,39 @@ public class EmployeeHandler implements RequestHandler<Map<String, Object>, Map<
         }
 
         // Fuerza cabecera de respuesta como JSON
-        response.put("headers", Map.of("Content-Type", "application/json"));
+        headers.put("Content-Type", "application/json");
+        response.put("headers", headers);
 
         logger.info("[Fin] Finaliza ejecucion con respuesta: {}", response);
         return response;
     }
 
-    // Extrae el ID del path tipo "employees/{id}". Si es invalido, responde con error 400.
+    // Extrae el ID del path tipo "employees/{id}" o "employees/{id}/history". Si es invalido, responde con error 400.
     private Integer extractIdFromProxy(String proxyPath, Map<String, Object> response) {
-        if (proxyPath == null || !proxyPath.matches("employees/\\d+")) {
+        if (proxyPath == null || !proxyPath.matches("employees/\\d+(/history)?")) {
             response.put("statusCode", 400);
             response.put("body", FormatUtils.jsonMessage("error", "Formato de URL incorrecto o ID no proporcionado."));
             return null;
         }
         return Integer.parseInt(proxyPath.split("/")[1]);
     }
+
+    // Convierte el parametro asOf a fecha. Devuelve null si no vino o si no es una fecha yyyy-MM-dd valida.
+    private LocalDate parseAsOf(String asOfParam) {
+        if (asOfParam == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(asOfParam);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Responde con error 400 ante un parametro asOf que no es una fecha yyyy-MM-dd
+    private void rejectAsOf(String asOfParam, Map<String, Object> response) {
+        logger.warn("Parametro asOf invalido: {}", asOfParam);
+        response.put("statusCode", 400);
+        response.put("body", FormatUtils.jsonMessage("error", "Formato de asOf incorrecto, se espera yyyy-MM-dd."));
+    }
 }
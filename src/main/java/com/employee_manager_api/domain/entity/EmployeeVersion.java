@@ -0,0 +1,23 @@
+package com.employee_manager_api.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Version historica de un empleado: sus datos desde validFrom hasta la siguiente version
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeVersion {
+
+    private int id;
+    private String validFrom;
+    private String name;
+    private String position;
+    private double salary;
+    private String hireDate;
+    private String department;
+    private boolean deleted;
+}
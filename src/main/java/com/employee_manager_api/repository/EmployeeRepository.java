@@ -1,11 +1,18 @@
 package com.employee_manager_api.repository;
 
+import com.employee_manager_api.config.ConnectionProvider;
 import com.employee_manager_api.config.DatabaseConnection;
+import com.employee_manager_api.config.EnvLoad;
 import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.domain.entity.EmployeeVersion;
+import com.employee_manager_api.resilience.ResilientCaller;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
 
 import java.sql.*;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,24 +20,62 @@ public class EmployeeRepository {
 
     private static final Logger logger = LogManager.getLogger(EmployeeRepository.class);
 
+    // Tiempo maximo que el servidor puede dedicar a cada sentencia
+    private static final int QUERY_TIMEOUT_SECONDS = (int) EnvLoad.getLong("DB_QUERY_TIMEOUT_S", 5);
+
+    // Copia la fila actual del empleado como nueva version en el historial (append-only).
+    // valid_from sale del reloj de la base (no del de cada Lambda) y siempre queda despues de la
+    // ultima version del empleado, aunque dos cambios caigan en el mismo microsegundo.
+    private static final String HISTORY_SNAPSHOT = "INSERT INTO employee_history "
+            + "(employee_id, valid_from, name, position, salary, hire_date, department, deleted) "
+            + "SELECT e.id, GREATEST(UTC_TIMESTAMP(6), COALESCE(TIMESTAMPADD(MICROSECOND, 1, "
+            + "(SELECT MAX(h.valid_from) FROM employee_history h WHERE h.employee_id = e.id)), UTC_TIMESTAMP(6))), "
+            + "e.name, e.position, e.salary, e.hire_date, e.department, ? FROM employees e WHERE e.id = ?";
+
+    // Intentos de agregar una version si otra transaccion tomo el mismo valid_from
+    private static final int HISTORY_SNAPSHOT_ATTEMPTS = 3;
+
+    private static final String HISTORY_COLUMNS = "employee_id, valid_from, name, position, salary, hire_date, department, deleted";
+
+    // Las lecturas son idempotentes y usan call: deadline, reintentos y circuit breaker.
+    // Las escrituras usan callInline: mismo circuit breaker, pero corren una sola vez en el hilo que llama
+    // y solo las limita el timeout de cada sentencia, para no informar un error sobre un cambio que igual se confirma.
+    private final ResilientCaller dbCaller = ResilientCaller.fromEnv("DB", 8_000, 0, 2, EmployeeRepository::isTransient);
+
+    // Origen de las conexiones, por defecto la instancia RDS configurada en el entorno
+    private final ConnectionProvider connectionProvider;
+
+    public EmployeeRepository() {
+        this(() -> DatabaseConnection.getInstance().getConnection());
+    }
+
+    // Permite usar otra base de datos (ej. una base embebida para pruebas de carga)
+    public EmployeeRepository(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
     // Devuelve una lista con todos los empleados consultando el SP sp_get_all_employees
     public List<Employee> getAllEmployees() throws Exception {
         logger.info("[DB] Obteniendo todos los empleados...");
-        List<Employee> employees = new ArrayList<>();
         String query = "{ CALL sp_get_all_employees() }";
 
-        try (Connection connection = DatabaseConnection.getInstance().getConnection(); CallableStatement stmt = connection.prepareCall(query); ResultSet rs = stmt.executeQuery()) {
+        return dbCaller.call("getAllEmployees", () -> {
+            List<Employee> employees = new ArrayList<>();
+            try (Connection connection = connectionProvider.getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
 
-            while (rs.next()) {
-                employees.add(mapResultSetToEmployee(rs));
-            }
-
-        } catch (SQLException e) {
-            logger.error("[DB] Error al obtener empleados: ", e);
-            throw new Exception("Error al obtener empleados", e);
-        }
+                stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        employees.add(mapResultSetToEmployee(rs));
+                    }
+                }
 
-        return employees;
+            } catch (SQLException e) {
+                logger.error("[DB] Error al obtener empleados: ", e);
+                throw new Exception("Error al obtener empleados", e);
+            }
+            return employees;
+        });
     }
 
     // Busca un empleado por ID ejecutando el SP sp_get_employee_by_id
@@ -38,20 +83,23 @@ public class EmployeeRepository {
         logger.info("[DB] Buscando empleado con ID: {}", id);
         String query = "{ CALL sp_get_employee_by_id(?) }";
 
-        try (Connection connection = DatabaseConnection.getInstance().getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
+        return dbCaller.call("getEmployeeById", () -> {
+            try (Connection connection = connectionProvider.getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
 
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEmployee(rs);
+                stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return mapResultSetToEmployee(rs);
+                    }
                 }
-            }
 
-        } catch (SQLException e) {
-            logger.error("[DB] Error al obtener empleado con ID {}: ", id, e);
-            throw new Exception("Error al obtener empleado con ID " + id, e);
-        }
-        return null; // Si no se encuentra el empleado, retorna null.
+            } catch (SQLException e) {
+                logger.error("[DB] Error al obtener empleado con ID {}: ", id, e);
+                throw new Exception("Error al obtener empleado con ID " + id, e);
+            }
+            return null; // Si no se encuentra el empleado, retorna null.
+        });
     }
 
     // Inserta un nuevo empleado en la base usando el SP sp_create_employee
@@ -59,21 +107,34 @@ public class EmployeeRepository {
         logger.info("[DB] Insertando nuevo empleado: {}", employee.getName());
         String query = "{ CALL sp_create_employee(?, ?, ?, ?, ?) }";
 
-        try (Connection connection = DatabaseConnection.getInstance().getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
+        dbCaller.callInline("createEmployee", () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                // El alta y su primera version en el historial se confirman juntas
+                connection.setAutoCommit(false);
+                try (CallableStatement stmt = connection.prepareCall(query)) {
 
-            stmt.setString(1, employee.getName());
-            stmt.setString(2, employee.getPosition());
-            stmt.setDouble(3, employee.getSalary());
-            stmt.setString(4, employee.getHireDate());
-            stmt.setString(5, employee.getDepartment());
+                    stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                    stmt.setString(1, employee.getName());
+                    stmt.setString(2, employee.getPosition());
+                    stmt.setDouble(3, employee.getSalary());
+                    stmt.setString(4, employee.getHireDate());
+                    stmt.setString(5, employee.getDepartment());
 
-            stmt.executeUpdate();
-            logger.info("[DB] Empleado {} insertado correctamente.", employee.getName());
+                    stmt.executeUpdate();
+                    appendHistory(connection, lastInsertId(connection), false);
+                    connection.commit();
+                    logger.info("[DB] Empleado {} insertado correctamente.", employee.getName());
 
-        } catch (SQLException e) {
-            logger.error("[DB] Error al insertar empleado: ", e);
-            throw new Exception("Error al insertar empleado", e);
-        }
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.error("[DB] Error al insertar empleado: ", e);
+                throw new Exception("Error al insertar empleado", e);
+            }
+            return null;
+        });
     }
 
     // Actualiza los datos de un empleado en base a su ID usando el SP sp_update_employee
@@ -81,22 +142,35 @@ public class EmployeeRepository {
         logger.info("[DB] Actualizando empleado con ID: {}", employee.getId());
         String query = "{ CALL sp_update_employee(?, ?, ?, ?, ?, ?) }";
 
-        try (Connection connection = DatabaseConnection.getInstance().getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
+        dbCaller.callInline("updateEmployee", () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                // La modificacion y la nueva version en el historial se confirman juntas
+                connection.setAutoCommit(false);
+                try (CallableStatement stmt = connection.prepareCall(query)) {
 
-            stmt.setInt(1, employee.getId());
-            stmt.setString(2, employee.getName());
-            stmt.setString(3, employee.getPosition());
-            stmt.setDouble(4, employee.getSalary());
-            stmt.setString(5, employee.getHireDate());
-            stmt.setString(6, employee.getDepartment());
+                    stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                    stmt.setInt(1, employee.getId());
+                    stmt.setString(2, employee.getName());
+                    stmt.setString(3, employee.getPosition());
+                    stmt.setDouble(4, employee.getSalary());
+                    stmt.setString(5, employee.getHireDate());
+                    stmt.setString(6, employee.getDepartment());
 
-            stmt.executeUpdate();
-            logger.info("[DB] Empleado con ID {} actualizado correctamente.", employee.getId());
+                    stmt.executeUpdate();
+                    appendHistory(connection, employee.getId(), false);
+                    connection.commit();
+                    logger.info("[DB] Empleado con ID {} actualizado correctamente.", employee.getId());
 
-        } catch (SQLException e) {
-            logger.error("[DB] Error al actualizar empleado con ID {}: ", employee.getId(), e);
-            throw new Exception("Error al actualizar empleado con ID " + employee.getId(), e);
-        }
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.error("[DB] Error al actualizar empleado con ID {}: ", employee.getId(), e);
+                throw new Exception("Error al actualizar empleado con ID " + employee.getId(), e);
+            }
+            return null;
+        });
     }
 
     // Elimina un empleado por ID ejecutando el SP sp_delete_employee
@@ -104,18 +178,195 @@ public class EmployeeRepository {
         logger.info("[DB] Eliminando empleado con ID: {}", id);
         String query = "{ CALL sp_delete_employee(?) }";
 
-        try (Connection connection = DatabaseConnection.getInstance().getConnection(); CallableStatement stmt = connection.prepareCall(query)) {
+        dbCaller.callInline("deleteEmployee", () -> {
+            try (Connection connection = connectionProvider.getConnection()) {
+                // La baja se registra como una version marcada como eliminada, antes de borrar la fila
+                connection.setAutoCommit(false);
+                try (CallableStatement stmt = connection.prepareCall(query)) {
+
+                    appendHistory(connection, id, true);
+                    stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                    stmt.setInt(1, id);
+                    stmt.executeUpdate();
+                    connection.commit();
+                    logger.info("[DB] Empleado con ID {} eliminado correctamente.", id);
+
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                logger.error("[DB] Error al eliminar empleado con ID {}: ", id, e);
+                throw new Exception("Error al eliminar empleado con ID " + id, e);
+            }
+            return null;
+        });
+    }
+
+    // Devuelve el empleado tal como estaba en el instante indicado, o null si no existia o estaba eliminado.
+    // Usa el indice (employee_id, valid_from) para ubicar la ultima version anterior al instante.
+    public Employee getEmployeeAsOf(int id, Instant asOf) throws Exception {
+        logger.info("[DB] Buscando empleado con ID {} al {}", id, asOf);
+        String query = "SELECT " + HISTORY_COLUMNS + " FROM employee_history "
+                + "WHERE employee_id = ? AND valid_from < ? ORDER BY valid_from DESC LIMIT 1";
+
+        return dbCaller.call("getEmployeeAsOf", () -> {
+            try (Connection connection = connectionProvider.getConnection(); PreparedStatement stmt = connection.prepareStatement(query)) {
+
+                stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                stmt.setInt(1, id);
+                stmt.setTimestamp(2, Timestamp.from(asOf));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next() && !rs.getBoolean("deleted")) {
+                        return mapHistoryToEmployee(rs);
+                    }
+                }
+
+            } catch (SQLException e) {
+                logger.error("[DB] Error al obtener empleado con ID {} al {}: ", id, asOf, e);
+                throw new Exception("Error al obtener empleado con ID " + id + " al " + asOf, e);
+            }
+            return null;
+        });
+    }
+
+    // Devuelve todas las versiones de un empleado ordenadas de la mas antigua a la mas reciente
+    public List<EmployeeVersion> getEmployeeHistory(int id) throws Exception {
+        logger.info("[DB] Obteniendo historial del empleado con ID: {}", id);
+        String query = "SELECT " + HISTORY_COLUMNS + " FROM employee_history WHERE employee_id = ? ORDER BY valid_from";
 
-            stmt.setInt(1, id);
-            stmt.executeUpdate();
-            logger.info("[DB] Empleado con ID {} eliminado correctamente.", id);
+        return dbCaller.call("getEmployeeHistory", () -> {
+            List<EmployeeVersion> versions = new ArrayList<>();
+            try (Connection connection = connectionProvider.getConnection(); PreparedStatement stmt = connection.prepareStatement(query)) {
 
-        } catch (SQLException e) {
-            logger.error("[DB] Error al eliminar empleado con ID {}: ", id, e);
-            throw new Exception("Error al eliminar empleado con ID " + id, e);
+                stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        versions.add(new EmployeeVersion(
+                                rs.getInt("employee_id"),
+                                rs.getTimestamp("valid_from").toInstant().toString(),
+                                rs.getString("name"),
+                                rs.getString("position"),
+                                rs.getDouble("salary"),
+                                rs.getString("hire_date"),
+                                rs.getString("department"),
+                                rs.getBoolean("deleted")
+                        ));
+                    }
+                }
+
+            } catch (SQLException e) {
+                logger.error("[DB] Error al obtener historial del empleado con ID {}: ", id, e);
+                throw new Exception("Error al obtener historial del empleado con ID " + id, e);
+            }
+            return versions;
+        });
+    }
+
+    // Devuelve todos los empleados tal como estaban en el instante indicado.
+    // Una unica consulta: la ultima version de cada empleado anterior al instante, descartando las bajas.
+    public List<Employee> getEmployeesAsOf(Instant asOf) throws Exception {
+        logger.info("[DB] Obteniendo empleados al {}", asOf);
+        String query = "SELECT h.employee_id, h.valid_from, h.name, h.position, h.salary, h.hire_date, h.department, h.deleted "
+                + "FROM employee_history h "
+                + "JOIN (SELECT employee_id, MAX(valid_from) AS valid_from FROM employee_history "
+                + "WHERE valid_from < ? GROUP BY employee_id) latest "
+                + "ON h.employee_id = latest.employee_id AND h.valid_from = latest.valid_from "
+                + "WHERE h.deleted = FALSE";
+
+        return dbCaller.call("getEmployeesAsOf", () -> {
+            List<Employee> employees = new ArrayList<>();
+            try (Connection connection = connectionProvider.getConnection(); PreparedStatement stmt = connection.prepareStatement(query)) {
+
+                stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+                stmt.setTimestamp(1, Timestamp.from(asOf));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        employees.add(mapHistoryToEmployee(rs));
+                    }
+                }
+
+            } catch (SQLException e) {
+                logger.error("[DB] Error al obtener empleados al {}: ", asOf, e);
+                throw new Exception("Error al obtener empleados al " + asOf, e);
+            }
+            return employees;
+        });
+    }
+
+    // Indica si un error de base de datos es transitorio: conexion caida (SQLState 08), deadlock o
+    // rollback por serializacion (40), o fallas de AWS al resolver la conexion. Errores de sintaxis
+    // o de restricciones (42, 23) se repetirian en cada intento y no indican que la base este caida.
+    private static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause instanceof SQLException) {
+                String state = ((SQLException) cause).getSQLState();
+                return state != null && (state.startsWith("08") || state.startsWith("40"));
+            }
+            if (cause instanceof AwsServiceException) {
+                AwsServiceException serviceError = (AwsServiceException) cause;
+                return serviceError.statusCode() >= 500 || serviceError.statusCode() == 429 || serviceError.isThrottlingException();
+            }
+            if (cause instanceof SdkClientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Agrega la version actual del empleado al historial, dentro de la transaccion en curso.
+    // Si una escritura concurrente sobre el mismo empleado ocupo la clave (employee_id, valid_from),
+    // la sentencia se repite: la falla solo revierte esa sentencia y el nuevo intento ve la version ajena.
+    private void appendHistory(Connection connection, int id, boolean deleted) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(HISTORY_SNAPSHOT)) {
+            stmt.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            stmt.setBoolean(1, deleted);
+            stmt.setInt(2, id);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    stmt.executeUpdate();
+                    return;
+                } catch (SQLException e) {
+                    if (attempt >= HISTORY_SNAPSHOT_ATTEMPTS || !isDuplicateKey(e)) {
+                        throw e;
+                    }
+                    logger.warn("[DB] valid_from duplicado en el historial del empleado {}, reintentando", id);
+                }
+            }
+        }
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e instanceof SQLIntegrityConstraintViolationException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
+
+    // ID generado por el ultimo INSERT de la sesion (el que hizo sp_create_employee)
+    private int lastInsertId(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement(); ResultSet rs = stmt.executeQuery("SELECT LAST_INSERT_ID()")) {
+            if (!rs.next()) {
+                throw new SQLException("No se pudo obtener el ID del empleado insertado.");
+            }
+            return rs.getInt(1);
         }
     }
 
+    // Mapea una fila del historial a un objeto Employee.
+    private Employee mapHistoryToEmployee(ResultSet rs) throws SQLException {
+        return new Employee(
+                rs.getInt("employee_id"),
+                rs.getString("name"),
+                rs.getString("position"),
+                rs.getDouble("salary"),
+                rs.getString("hire_date"),
+                rs.getString("department")
+        );
+    }
+
     // Mapea un ResultSet a un objeto Employee.
     private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
         //En una posible migracion a spring esto seria un RowMapper.
@@ -0,0 +1,94 @@
+package com.employee_manager_api.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker simple por conteo de fallas consecutivas. Al superar el
+ * umbral pasa a OPEN y rechaza llamadas durante el tiempo configurado; luego
+ * permite una unica llamada de prueba (HALF_OPEN) que decide si vuelve a
+ * CLOSED o a OPEN.
+ */
+public class CircuitBreaker {
+
+    private static final Logger logger = LogManager.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+
+    // Reloj inyectable para poder simular el paso del tiempo en pruebas
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    // Indica si se permite ejecutar una llamada. En HALF_OPEN solo deja pasar una prueba a la vez.
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                return false;
+            }
+            logger.info("[Resilience] Circuito {} en HALF_OPEN, se permite una llamada de prueba", name);
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    // Registra una llamada exitosa y cierra el circuito
+    public synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("[Resilience] Circuito {} cerrado nuevamente", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    // Registra una llamada fallida y abre el circuito si corresponde
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                logger.warn("[Resilience] Circuito {} abierto tras {} fallas consecutivas", name, consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,9 @@
+package com.employee_manager_api.resilience;
+
+// Se lanza cuando una llamada es rechazada porque el circuito se encuentra abierto
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String circuitName) {
+        super("Circuito " + circuitName + " abierto, llamada rechazada.");
+    }
+}
@@ -0,0 +1,19 @@
+package com.employee_manager_api.resilience;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// Resultado que puede estar incompleto: contiene los elementos obtenidos y las fuentes que debieron omitirse
+@Getter
+@AllArgsConstructor
+public class PartialResult<T> {
+
+    private final List<T> items;
+    private final List<String> skipped;
+
+    public boolean isComplete() {
+        return skipped.isEmpty();
+    }
+}
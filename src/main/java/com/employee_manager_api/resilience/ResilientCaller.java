@@ -0,0 +1,227 @@
+package com.employee_manager_api.resilience;
+
+import com.employee_manager_api.config.EnvLoad;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Ejecuta llamadas remotas (S3, RDS) aplicando un deadline por llamada,
+ * requests "hedged" para recortar la latencia de cola, reintentos limitados
+ * por un {@link RetryBudget} y un {@link CircuitBreaker} que corta el trafico
+ * cuando el servicio remoto falla de forma sostenida.
+ * <p>
+ * Solo los errores transitorios (red, timeouts, throttling, 5xx) se reintentan
+ * y cuentan para el circuit breaker. Los errores propios de la solicitud
+ * (datos mal formados, claves inexistentes, SQL invalido) se propagan de inmediato.
+ */
+public class ResilientCaller {
+
+    private static final Logger logger = LogManager.getLogger(ResilientCaller.class);
+
+    // Pool compartido donde corren los intentos. Hilos daemon para no bloquear el apagado de la JVM.
+    private static final ExecutorService attemptExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "resilience-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final RetryBudget retryBudget;
+    private final long deadlineMillis;
+    // Demora antes de lanzar un segundo intento en paralelo. Un valor <= 0 desactiva el hedging.
+    private final long hedgeDelayMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    // Decide si un error es transitorio (vale la pena reintentar y cuenta como falla del servicio)
+    private final Predicate<Throwable> transientError;
+
+    // Trata cualquier error como transitorio
+    public ResilientCaller(String name, CircuitBreaker circuitBreaker, RetryBudget retryBudget,
+                           long deadlineMillis, long hedgeDelayMillis, int maxAttempts, long backoffMillis) {
+        this(name, circuitBreaker, retryBudget, deadlineMillis, hedgeDelayMillis, maxAttempts, backoffMillis, error -> true);
+    }
+
+    public ResilientCaller(String name, CircuitBreaker circuitBreaker, RetryBudget retryBudget,
+                           long deadlineMillis, long hedgeDelayMillis, int maxAttempts, long backoffMillis,
+                           Predicate<Throwable> transientError) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.retryBudget = retryBudget;
+        this.deadlineMillis = deadlineMillis;
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.transientError = transientError;
+    }
+
+    // Construye un caller leyendo la configuracion del entorno con el prefijo indicado (ej. S3_CALL_TIMEOUT_MS)
+    public static ResilientCaller fromEnv(String prefix, long defaultDeadlineMillis, long defaultHedgeDelayMillis, int defaultMaxAttempts,
+                                          Predicate<Throwable> transientError) {
+        CircuitBreaker breaker = new CircuitBreaker(prefix,
+                (int) EnvLoad.getLong(prefix + "_BREAKER_THRESHOLD", 5),
+                EnvLoad.getLong(prefix + "_BREAKER_OPEN_MS", 30_000));
+        return new ResilientCaller(prefix, breaker, new RetryBudget(0.2, 10),
+                EnvLoad.getLong(prefix + "_CALL_TIMEOUT_MS", defaultDeadlineMillis),
+                EnvLoad.getLong(prefix + "_HEDGE_DELAY_MS", defaultHedgeDelayMillis),
+                (int) EnvLoad.getLong(prefix + "_MAX_ATTEMPTS", defaultMaxAttempts),
+                EnvLoad.getLong(prefix + "_BACKOFF_MS", 100),
+                transientError);
+    }
+
+    // Ejecuta la tarea con todas las protecciones. Lanza la ultima excepcion si no se logra un resultado.
+    public <T> T call(String operation, Callable<T> task) throws Exception {
+        if (!circuitBreaker.allowRequest()) {
+            logger.warn("[Resilience] {} rechazada: circuito {} abierto", operation, name);
+            throw new CircuitOpenException(name);
+        }
+        retryBudget.recordRequest();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        Exception lastError = null;
+        // true si el servicio respondio, aunque sea con un error propio de la solicitud
+        boolean reachable = false;
+
+        try {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                if (attempt > 1) {
+                    if (!retryBudget.tryAcquire()) {
+                        logger.warn("[Resilience] Presupuesto de reintentos agotado para {}", operation);
+                        break;
+                    }
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMillis <= 0) {
+                        break;
+                    }
+                    Thread.sleep(Math.min(backoffMillis * (attempt - 1), remainingMillis));
+                    logger.info("[Resilience] Reintentando {} (intento {}/{})", operation, attempt, maxAttempts);
+                }
+
+                try {
+                    T result = runAttempt(operation, task, deadline);
+                    reachable = true;
+                    return result;
+                } catch (TimeoutException e) {
+                    // Sin tiempo restante no tiene sentido reintentar
+                    lastError = e;
+                    break;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                } catch (Exception e) {
+                    if (!transientError.test(e)) {
+                        // Reintentar no cambia el resultado y el servicio respondio: no es una falla del circuito
+                        reachable = true;
+                        throw e;
+                    }
+                    logger.warn("[Resilience] Fallo en {} (intento {}): {}", operation, attempt, e.getMessage());
+                    lastError = e;
+                }
+            }
+            throw lastError;
+        } finally {
+            // Toda salida registra un resultado (una interrupcion cuenta como falla), asi una llamada
+            // de prueba en HALF_OPEN siempre libera el circuito
+            if (reachable) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+        }
+    }
+
+    // Ejecuta la tarea una sola vez en el hilo que llama, protegida solo por el circuit breaker: sin deadline,
+    // hedging ni reintentos. Para operaciones no idempotentes, donde abandonar un intento por deadline no lo
+    // detiene y podria confirmar el cambio despues de haber informado un error.
+    public <T> T callInline(String operation, Callable<T> task) throws Exception {
+        if (!circuitBreaker.allowRequest()) {
+            logger.warn("[Resilience] {} rechazada: circuito {} abierto", operation, name);
+            throw new CircuitOpenException(name);
+        }
+
+        boolean reachable = false;
+        try {
+            T result = task.call();
+            reachable = true;
+            return result;
+        } catch (Exception e) {
+            reachable = !transientError.test(e);
+            throw e;
+        } finally {
+            if (reachable) {
+                circuitBreaker.recordSuccess();
+            } else {
+                circuitBreaker.recordFailure();
+            }
+        }
+    }
+
+    // Ejecuta un intento, lanzando una copia "hedged" si el primero no responde dentro de hedgeDelayMillis
+    private <T> T runAttempt(String operation, Callable<T> task, long deadline) throws Exception {
+        CompletionService<T> completionService = new ExecutorCompletionService<>(attemptExecutor);
+        List<Future<T>> inFlight = new ArrayList<>();
+        inFlight.add(completionService.submit(task));
+
+        int pending = 1;
+        boolean hedged = hedgeDelayMillis <= 0;
+        Exception firstError = null;
+
+        try {
+            while (pending > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException(operation + " supero el deadline de " + deadlineMillis + " ms");
+                }
+                long wait = hedged ? remaining : Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(hedgeDelayMillis));
+                Future<T> done = completionService.poll(wait, TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    if (!hedged) {
+                        hedged = true;
+                        if (retryBudget.tryAcquire()) {
+                            logger.info("[Resilience] {} lenta, lanzando request hedged", operation);
+                            inFlight.add(completionService.submit(task));
+                            pending++;
+                        }
+                    }
+                    continue;
+                }
+
+                pending--;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    if (!transientError.test(cause)) {
+                        // El otro intento daria el mismo error, no tiene sentido esperarlo
+                        throw cause;
+                    }
+                    if (firstError == null) {
+                        firstError = cause;
+                    }
+                }
+            }
+            throw firstError;
+        } finally {
+            // Cancela los intentos que siguen en curso (el perdedor del hedge o los que superaron el deadline)
+            for (Future<T> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,39 @@
+package com.employee_manager_api.resilience;
+
+/**
+ * Presupuesto de reintentos tipo token bucket. Cada llamada original deposita
+ * una fraccion de token y cada reintento o request "hedged" consume un token
+ * entero, de modo que los reintentos nunca superan un porcentaje fijo del
+ * trafico y no amplifican una caida del servicio remoto.
+ */
+public class RetryBudget {
+
+    private final double depositPerRequest;
+    private final double maxTokens;
+    private double tokens;
+
+    // ratio: fraccion de reintentos permitida por request (ej. 0.2 = 20%). minRetries: reserva inicial de tokens.
+    public RetryBudget(double ratio, int minRetries) {
+        this.depositPerRequest = Math.max(0, ratio);
+        this.maxTokens = Math.max(1, minRetries);
+        this.tokens = this.maxTokens;
+    }
+
+    // Registra una llamada original, sumando la fraccion correspondiente al presupuesto
+    public synchronized void recordRequest() {
+        tokens = Math.min(maxTokens, tokens + depositPerRequest);
+    }
+
+    // Intenta consumir un token para un reintento. Devuelve false si el presupuesto esta agotado.
+    public synchronized boolean tryAcquire() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    public synchronized double getAvailableTokens() {
+        return tokens;
+    }
+}
@@ -0,0 +1,205 @@
+package com.employee_manager_api.server;
+
+import com.employee_manager_api.config.ConnectionPool;
+import com.employee_manager_api.config.DatabaseConnection;
+import com.employee_manager_api.config.EnvLoad;
+import com.employee_manager_api.controller.EmployeeHandler;
+import com.employee_manager_api.repository.EmployeeRepository;
+import com.employee_manager_api.service.EmployeeService;
+import com.employee_manager_api.util.FormatUtils;
+import com.employee_manager_api.util.S3EmployeeReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Modo servidor: expone la API con el servidor HTTP del JDK y adapta cada
+ * request al mismo formato de evento que envia API Gateway, reutilizando el
+ * ruteo de {@link EmployeeHandler}. Todas las requests comparten un unico
+ * handler, el pool de conexiones y el cliente S3.
+ */
+public class EmployeeHttpServer {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeHttpServer.class);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final EmployeeHandler handler;
+    private final int shutdownGraceSeconds;
+
+    public EmployeeHttpServer(EmployeeHandler handler, int port, int shutdownGraceSeconds) throws IOException {
+        this.handler = handler;
+        this.shutdownGraceSeconds = shutdownGraceSeconds;
+        this.executor = newExecutor("requests");
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    // Arranca el servidor con los recursos configurados en el entorno y lo detiene ordenadamente al apagar la JVM
+    public static void main(String[] args) throws Exception {
+        int port = (int) EnvLoad.getLong("SERVER_PORT", 8080);
+
+        ConnectionPool pool = new ConnectionPool(() -> DatabaseConnection.getInstance().openConnection(),
+                (int) EnvLoad.getLong("DB_POOL_SIZE", 10), EnvLoad.getLong("DB_POOL_TIMEOUT_MS", 5_000));
+        // Las lecturas de S3 del top de salarios tienen su propio executor, dimensionado como el de requests:
+        // compartir el pool fijo del servicio entre requests concurrentes las haria esperar en cola
+        ExecutorService s3Executor = newExecutor("lecturas de S3");
+        EmployeeService service = new EmployeeService(new EmployeeRepository(pool),
+                new S3EmployeeReader(EnvLoad.get("S3_BUCKET"), EnvLoad.get("S3_REGION")), s3Executor);
+
+        EmployeeHttpServer server = new EmployeeHttpServer(new EmployeeHandler(service), port,
+                (int) EnvLoad.getLong("SERVER_SHUTDOWN_GRACE_S", 10));
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop();
+            s3Executor.shutdownNow();
+            pool.close();
+        }, "server-shutdown"));
+
+        server.start();
+    }
+
+    public void start() {
+        server.start();
+        logger.info("[Server] Escuchando en el puerto {}", server.getAddress().getPort());
+    }
+
+    // Deja de aceptar conexiones, espera a que terminen las requests en curso y libera los hilos
+    public void stop() {
+        logger.info("[Server] Deteniendo servidor, espera maxima {} s", shutdownGraceSeconds);
+        // Un unico plazo para todo el apagado: lo que tarde el servidor en drenar se descuenta de la espera del pool
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(shutdownGraceSeconds);
+        server.stop(shutdownGraceSeconds);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        logger.info("[Server] Servidor detenido.");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // Convierte la request HTTP en un evento de API Gateway, invoca el handler y escribe la respuesta
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Map<String, Object> response = handler.handleRequest(toEvent(exchange), null);
+            writeResponse(exchange, response);
+        } catch (Exception e) {
+            logger.error("[Server] Error al procesar la request", e);
+            // Si las cabeceras ya se enviaron la respuesta quedo a medias: solo queda cerrar la conexion
+            if (exchange.getResponseCode() == -1) {
+                Map<String, Object> response = new HashMap<>();
+                response.put("statusCode", 500);
+                response.put("body", FormatUtils.jsonMessage("error", "Error interno: " + e.getMessage()));
+                response.put("headers", Map.of("Content-Type", "application/json"));
+                try {
+                    writeResponse(exchange, response);
+                } catch (IOException writeError) {
+                    logger.error("[Server] No se pudo enviar la respuesta de error", writeError);
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Map<String, Object> toEvent(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+
+        // El proxy es la ruta sin la barra inicial ni final, igual que el parametro {proxy+} de API Gateway
+        String proxy = path.replaceAll("^/+|/+$", "");
+
+        Map<String, String> headers = new HashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name, String.join(",", values)));
+
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            body = bytes.length == 0 ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("path", path);
+        event.put("httpMethod", exchange.getRequestMethod());
+        event.put("pathParameters", proxy.isEmpty() ? null : Map.of("proxy", proxy));
+        event.put("queryStringParameters", parseQuery(exchange.getRequestURI().getRawQuery()));
+        event.put("headers", headers);
+        event.put("body", body);
+        return event;
+    }
+
+    // Parsea el query string a un mapa; API Gateway envia null cuando no hay parametros
+    private static Map<String, String> parseQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+        Map<String, String> params = new HashMap<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    // Escribe la respuesta con Content-Length conocido para que la conexion pueda reutilizarse (keep-alive)
+    @SuppressWarnings("unchecked")
+    private static void writeResponse(HttpExchange exchange, Map<String, Object> response) throws IOException {
+        Object headers = response.get("headers");
+        if (headers instanceof Map) {
+            ((Map<String, Object>) headers).forEach((name, value) -> exchange.getResponseHeaders().set(name, String.valueOf(value)));
+        }
+
+        Object statusCode = response.get("statusCode");
+        Object body = response.get("body");
+        byte[] bytes = body == null ? new byte[0] : body.toString().getBytes(StandardCharsets.UTF_8);
+
+        exchange.sendResponseHeaders(statusCode instanceof Integer ? (Integer) statusCode : 500, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    // Usa virtual threads cuando la JVM los soporta (Java 21+); el proyecto compila para Java 17,
+    // por eso se obtienen por reflexion y si no estan disponibles se usa un pool fijo de hilos
+    private static ExecutorService newExecutor(String purpose) {
+        try {
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            logger.info("[Server] Usando virtual threads para {}", purpose);
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            int threads = (int) EnvLoad.getLong("SERVER_THREADS", 64);
+            logger.info("[Server] Virtual threads no disponibles, usando pool de {} hilos para {}", threads, purpose);
+            return Executors.newFixedThreadPool(threads);
+        }
+    }
+}
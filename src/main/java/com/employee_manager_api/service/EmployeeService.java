@@ -2,29 +2,70 @@ package com.employee_manager_api.service;
 
 import com.employee_manager_api.config.EnvLoad;
 import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.domain.entity.EmployeeVersion;
 import com.employee_manager_api.repository.EmployeeRepository;
+import com.employee_manager_api.resilience.PartialResult;
+import com.employee_manager_api.resilience.ResilientCaller;
 import com.employee_manager_api.util.EmployeeValidator;
 import com.employee_manager_api.util.S3EmployeeReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.*;
 
 public class EmployeeService {
 
     private static final Logger logger = LogManager.getLogger(EmployeeService.class);
 
-    // Thread pool con 3 hilos para procesar archivos S3 en paralelo
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    // Thread pool para procesar archivos S3 en paralelo (3 hilos por defecto, S3_READ_THREADS)
+    private final ExecutorService executorService;
 
     // Repositorio para operaciones CRUD sobre la base de datos
-    private final EmployeeRepository employeeRepository = new EmployeeRepository();
+    private final EmployeeRepository employeeRepository;
 
-    //Creo una nueva instancia de S3EmployeeReader, enviando como parametros 2 variables obtenidas desde el entorno donde fuera lanzado la aplicacion ( Local o AWS Lambda )
-    private final S3EmployeeReader s3Reader = new S3EmployeeReader(EnvLoad.get("S3_BUCKET"), EnvLoad.get("S3_REGION"));
+    //Lector de archivos JSON en S3 ( bucket y region obtenidos desde el entorno, Local o AWS Lambda )
+    private final S3EmployeeReader s3Reader;
+
+    // Deadline, hedging, reintentos y circuit breaker para las llamadas a S3
+    private final ResilientCaller s3Caller;
+
+    // Tiempo maximo total para armar el top de salarios, aunque queden archivos sin leer
+    private final long topSalariesDeadlineMillis;
+
+    public EmployeeService() {
+        this(new EmployeeRepository(), new S3EmployeeReader(EnvLoad.get("S3_BUCKET"), EnvLoad.get("S3_REGION")));
+    }
+
+    // Permite inyectar repositorio y lector S3 alternativos (stand-ins locales o con fallas simuladas)
+    public EmployeeService(EmployeeRepository employeeRepository, S3EmployeeReader s3Reader) {
+        this(employeeRepository, s3Reader, Executors.newFixedThreadPool((int) EnvLoad.getLong("S3_READ_THREADS", 3)));
+    }
+
+    // Permite elegir donde corren las lecturas de S3. En modo servidor las requests concurrentes comparten
+    // el servicio, y un pool chico haria que los archivos se omitan por esperar en cola y no por fallas de S3.
+    public EmployeeService(EmployeeRepository employeeRepository, S3EmployeeReader s3Reader, ExecutorService executorService) {
+        this(employeeRepository, s3Reader, executorService,
+                ResilientCaller.fromEnv("S3", 3_000, 500, 2, S3EmployeeReader::isTransient),
+                EnvLoad.getLong("S3_REQUEST_DEADLINE_MS", 10_000));
+    }
+
+    // Permite ademas fijar las protecciones de S3 y el deadline del top de salarios (ej. valores cortos en pruebas)
+    public EmployeeService(EmployeeRepository employeeRepository, S3EmployeeReader s3Reader, ExecutorService executorService,
+                           ResilientCaller s3Caller, long topSalariesDeadlineMillis) {
+        this.executorService = executorService;
+        this.employeeRepository = employeeRepository;
+        this.s3Reader = s3Reader;
+        this.s3Caller = s3Caller;
+        this.topSalariesDeadlineMillis = topSalariesDeadlineMillis;
+    }
 
     // Crea un nuevo empleado después de validar su formato
     public void createEmployee(Employee employee) throws Exception {
@@ -48,6 +89,36 @@ public class EmployeeService {
         return employeeRepository.getEmployeeById(id);
     }
 
+    // Devuelve todos los empleados tal como estaban al final del dia indicado (UTC)
+    public List<Employee> getAllEmployees(LocalDate asOf) throws Exception {
+        if (asOf == null) {
+            return getAllEmployees();
+        }
+        logger.info("Obteniendo lista de empleados al {}", asOf);
+        return employeeRepository.getEmployeesAsOf(endOfDay(asOf));
+    }
+
+    // Devuelve un empleado tal como estaba al final del dia indicado (UTC)
+    public Employee getEmployeeById(int id, LocalDate asOf) throws Exception {
+        if (asOf == null) {
+            return getEmployeeById(id);
+        }
+        if (id <= 0) {
+            throw new IllegalArgumentException("El ID del empleado debe ser un numero positivo.");
+        }
+        logger.info("Obteniendo empleado con ID {} al {}", id, asOf);
+        return employeeRepository.getEmployeeAsOf(id, endOfDay(asOf));
+    }
+
+    // Devuelve todas las versiones de un empleado, incluida su baja si fue eliminado
+    public List<EmployeeVersion> getEmployeeHistory(int id) throws Exception {
+        if (id <= 0) {
+            throw new IllegalArgumentException("El ID del empleado debe ser un numero positivo.");
+        }
+        logger.info("Obteniendo historial del empleado con ID: {}", id);
+        return employeeRepository.getEmployeeHistory(id);
+    }
+
     // Actualiza un empleado después de validar sus datos
     public void updateEmployee(Employee employee) throws Exception {
         EmployeeValidator.validateFormat(employee);
@@ -65,34 +136,56 @@ public class EmployeeService {
     }
 
     // Obtiene los 10 empleados con mayores salarios desde archivos JSON en S3
-    public List<Employee> getTopSalaries() {
+    public List<Employee> getTopSalaries() throws Exception {
+        return getTopSalariesReport().getItems();
+    }
+
+    // Igual que getTopSalaries, pero informa que archivos no pudieron leerse dentro del deadline
+    public PartialResult<Employee> getTopSalariesReport() throws Exception {
         logger.info("[Init] Obteniendo empleados desde archivos S3...");
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(topSalariesDeadlineMillis);
 
-        // Obtener lista de archivos JSON en el bucket
-        List<String> files = s3Reader.listJsonFiles();
+        // Obtener lista de archivos JSON en el bucket. Si falla no hay forma de armar un resultado valido.
+        List<String> files = s3Caller.call("listJsonFiles", s3Reader::listJsonFiles);
 
         // Crear tareas para procesar cada archivo en paralelo
-        List<Future<List<Employee>>> futures = new ArrayList<>();
+        Map<String, Future<List<Employee>>> futures = new LinkedHashMap<>();
         for (String file : files) {
-            futures.add(executorService.submit(() -> s3Reader.readEmployees(file)));
+            futures.put(file, executorService.submit(() -> s3Caller.call("readEmployees " + file, () -> s3Reader.readEmployees(file))));
         }
 
         List<Employee> allEmployees = new ArrayList<>();
-
-        // Combinar los resultados de los hilos
-        try {
-            for (Future<List<Employee>> future : futures) {
-                allEmployees.addAll(future.get());
+        List<String> skippedFiles = new ArrayList<>();
+
+        // Combinar los resultados de los hilos, omitiendo los archivos que fallen o no respondan a tiempo
+        for (Map.Entry<String, Future<List<Employee>>> entry : futures.entrySet()) {
+            try {
+                long remaining = deadline - System.nanoTime();
+                allEmployees.addAll(entry.getValue().get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.getValue().cancel(true);
+                skippedFiles.add(entry.getKey());
+            } catch (ExecutionException | TimeoutException e) {
+                logger.error("Archivo {} omitido: {}", entry.getKey(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                entry.getValue().cancel(true);
+                skippedFiles.add(entry.getKey());
             }
-        } catch (InterruptedException | ExecutionException e) {
-            logger.error("Error al procesar archivos desde S3, Exception {}", e);
-            Thread.currentThread().interrupt();
+        }
+
+        if (!skippedFiles.isEmpty()) {
+            logger.warn("Top de salarios parcial, archivos omitidos: {}", skippedFiles);
         }
 
         // Ordenar por salario descendente
         allEmployees.sort(Comparator.comparingDouble(Employee::getSalary).reversed());
 
         // Retornar los 10 con mayor salario (o todos si hay menos)
-        return allEmployees.subList(0, Math.min(10, allEmployees.size()));
+        return new PartialResult<>(new ArrayList<>(allEmployees.subList(0, Math.min(10, allEmployees.size()))), skippedFiles);
+    }
+
+    // Una fecha "as of" incluye todos los cambios hechos durante ese dia
+    private Instant endOfDay(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
     }
 }
@@ -1,35 +1,135 @@
 package com.employee_manager_api.util;
 
 import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.util.ValidationReport.Violation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class EmployeeValidator {
 
-    // Valida que los campos obligatorios del empleado esten completos y sean validos
+    // Cantidad de filas que procesa cada tarea al validar lotes en paralelo
+    private static final int CHUNK_SIZE = 4_096;
+
+    // Valida que los campos obligatorios del empleado esten completos y sean validos.
+    // Lanza una unica excepcion con todas las violaciones encontradas.
     public static void validateFormat(Employee employee) {
+        int mask = check(employee);
+        if (mask != 0) {
+            throw new IllegalArgumentException(ValidationReport.decode(mask).stream()
+                    .map(Violation::getMessage)
+                    .collect(Collectors.joining(" ")));
+        }
+    }
+
+    // Valida un lote completo sin lanzar excepciones, en bloques paralelos si el lote es grande.
+    // Devuelve un reporte con todas las violaciones de cada fila.
+    public static ValidationReport validateBatch(List<Employee> employees) {
+        List<Employee> rows = employees instanceof RandomAccess ? employees : new ArrayList<>(employees);
+        int size = rows.size();
+        int[] masks = new int[size];
+
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream chunkStream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            chunkStream = chunkStream.parallel();
+        }
+        // Cada bloque escribe solo en su propio rango del arreglo, no hace falta sincronizar
+        chunkStream.forEach(chunk -> {
+            int end = Math.min(size, (chunk + 1) * CHUNK_SIZE);
+            for (int row = chunk * CHUNK_SIZE; row < end; row++) {
+                masks[row] = check(rows.get(row));
+            }
+        });
+
+        return new ValidationReport(masks);
+    }
 
-        // Verifica que el nombre no sea nulo ni vacio
-        if (employee.getName() == null || employee.getName().trim().isEmpty()) {
-            throw new IllegalArgumentException("El nombre del empleado no puede estar vacio.");
+    // Devuelve la mascara de violaciones del empleado (0 si es valido), sin crear objetos
+    static int check(Employee employee) {
+        if (employee == null) {
+            return Violation.MISSING.mask();
         }
 
-        // Verifica que el cargo no sea nulo ni vacio
-        if (employee.getPosition() == null || employee.getPosition().trim().isEmpty()) {
-            throw new IllegalArgumentException("El cargo del empleado no puede estar vacio.");
+        int mask = 0;
+
+        // Verifica que el nombre y el cargo no sean nulos ni vacios (isBlank no crea copias como trim)
+        if (isBlank(employee.getName())) {
+            mask |= Violation.NAME_BLANK.mask();
+        }
+        if (isBlank(employee.getPosition())) {
+            mask |= Violation.POSITION_BLANK.mask();
         }
 
-        // Verifica que el salario sea mayor a 0
-        if (employee.getSalary() <= 0) {
-            throw new IllegalArgumentException("El salario debe ser mayor a 0.");
+        // Verifica que el salario sea un numero finito mayor a 0
+        double salary = employee.getSalary();
+        if (!(salary > 0) || Double.isInfinite(salary)) {
+            mask |= Violation.SALARY_INVALID.mask();
         }
 
-        // Verifica que la fecha de contratacion no sea nula ni vacia
-        if (employee.getHireDate() == null || employee.getHireDate().trim().isEmpty()) {
-            throw new IllegalArgumentException("La fecha de contratacion no puede estar vacia.");
+        // Verifica que la fecha de contratacion exista y sea una fecha real con formato yyyy-MM-dd
+        String hireDate = employee.getHireDate();
+        if (isBlank(hireDate)) {
+            mask |= Violation.HIRE_DATE_BLANK.mask();
+        } else if (!isValidIsoDate(hireDate)) {
+            mask |= Violation.HIRE_DATE_INVALID.mask();
         }
 
         // Verifica que el departamento no sea nulo ni vacio
-        if (employee.getDepartment() == null || employee.getDepartment().trim().isEmpty()) {
-            throw new IllegalArgumentException("El departamento no puede estar vacio.");
+        if (isBlank(employee.getDepartment())) {
+            mask |= Violation.DEPARTMENT_BLANK.mask();
+        }
+
+        return mask;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // Parseo estricto de yyyy-MM-dd caracter por caracter, incluyendo dias por mes y años bisiestos
+    static boolean isValidIsoDate(String value) {
+        if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return false;
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 7);
+        int day = digits(value, 8, 10);
+        if (year <= 0 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+
+        int maxDay;
+        switch (month) {
+            case 2:
+                boolean leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                maxDay = leap ? 29 : 28;
+                break;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                maxDay = 30;
+                break;
+            default:
+                maxDay = 31;
+        }
+        return day <= maxDay;
+    }
+
+    // Convierte el rango [from, to) a entero, o devuelve -1 si contiene algo que no sea un digito
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
         }
+        return result;
     }
 }
@@ -1,16 +1,25 @@
 package com.employee_manager_api.util;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
+import com.employee_manager_api.config.EnvLoad;
 import com.employee_manager_api.domain.entity.Employee;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
+import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,15 +31,27 @@ public class S3EmployeeReader {
     private final S3Client s3Client;
     private final Gson gson = new Gson();
 
-    // Constructor que configura el cliente S3 para acceder al bucket especificado
+    // Constructor que configura el cliente S3 para acceder al bucket especificado.
+    // Los reintentos del SDK se desactivan: reintentos y hedging los maneja ResilientCaller,
+    // que asi puede limitarlos con su presupuesto. Solo queda el timeout total de cada llamada.
     public S3EmployeeReader(String bucketName, String region) {
-        this.bucketName = bucketName;
-        this.s3Client = S3Client.builder()
+        this(bucketName, S3Client.builder()
                 .region(Region.of(region))
-                .build();
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .retryPolicy(RetryPolicy.none())
+                        .apiCallTimeout(Duration.ofMillis(EnvLoad.getLong("S3_CALL_TIMEOUT_MS", 3_000)))
+                        .build())
+                .build());
+    }
+
+    // Constructor que recibe un cliente ya armado, permite usar un S3 local o uno que inyecte fallas en pruebas
+    public S3EmployeeReader(String bucketName, S3Client s3Client) {
+        this.bucketName = bucketName;
+        this.s3Client = s3Client;
     }
 
-    // Retorna una lista de nombres de archivos .json encontrados en el bucket configurado
+    // Retorna una lista de nombres de archivos .json encontrados en el bucket configurado.
+    // Si el listado falla se propaga la excepcion: una lista vacia produciria un resultado incorrecto.
     public List<String> listJsonFiles() {
         List<String> keys = new ArrayList<>();
 
@@ -52,36 +73,56 @@ public class S3EmployeeReader {
                 }
             }
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             logger.error("Error al listar archivos en el bucket", e);
+            throw e;
         }
 
         return keys;
     }
 
-    // Lee un archivo .json desde S3 y lo transforma en una lista de objetos Employee
-    public List<Employee> readEmployees(String key) {
-        List<Employee> employees = new ArrayList<>();
-        try {
-            // Construye la solicitud para obtener un objeto específico del bucket
-            GetObjectRequest request = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            // Realiza la lectura del archivo
-            ResponseInputStream<GetObjectResponse> response = s3Client.getObject(request);
+    // Lee un archivo .json desde S3 y lo transforma en una lista de objetos Employee.
+    // Los errores se propagan para que el llamador pueda reintentar o informar el archivo como omitido.
+    public List<Employee> readEmployees(String key) throws Exception {
+        // Construye la solicitud para obtener un objeto específico del bucket
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
 
-            // Parsea el contenido JSON en una lista de empleados
-            employees = gson.fromJson(new InputStreamReader(response), new TypeToken<List<Employee>>() {
+        // Realiza la lectura del archivo y parsea el contenido JSON en una lista de empleados
+        try (ResponseInputStream<GetObjectResponse> response = s3Client.getObject(request)) {
+            List<Employee> employees = gson.fromJson(new InputStreamReader(response), new TypeToken<List<Employee>>() {
             }.getType());
 
+            if (employees == null) {
+                employees = new ArrayList<>();
+            }
             logger.info("Archivo {} leído correctamente. Empleados: {}", key, employees.size());
+            return employees;
 
         } catch (Exception e) {
             logger.error("Error al leer archivo {} desde S3", key, e);
+            throw e;
         }
+    }
 
-        return employees;
+    // Indica si un error de S3 es transitorio: red, timeouts del SDK, throttling o errores 5xx.
+    // Un JSON mal formado o una clave inexistente (404) dan el mismo resultado en cada intento.
+    public static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            // Antes que IOException: MalformedJsonException extiende IOException y llega envuelta en JsonSyntaxException
+            if (cause instanceof JsonParseException) {
+                return false;
+            }
+            if (cause instanceof AwsServiceException) {
+                AwsServiceException serviceError = (AwsServiceException) cause;
+                return serviceError.statusCode() >= 500 || serviceError.statusCode() == 429 || serviceError.isThrottlingException();
+            }
+            if (cause instanceof SdkClientException || cause instanceof IOException || cause instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,99 @@
+package com.employee_manager_api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado de validar un lote de empleados. Guarda por cada fila una mascara
+ * de bits con las violaciones encontradas (un int por fila), de modo que el
+ * reporte ocupa memoria constante por registro sin importar cuantos errores haya.
+ */
+public class ValidationReport {
+
+    // Violaciones posibles, cada una ocupa un bit de la mascara
+    public enum Violation {
+        MISSING("El empleado no puede ser nulo."),
+        NAME_BLANK("El nombre del empleado no puede estar vacio."),
+        POSITION_BLANK("El cargo del empleado no puede estar vacio."),
+        SALARY_INVALID("El salario debe ser mayor a 0."),
+        HIRE_DATE_BLANK("La fecha de contratacion no puede estar vacia."),
+        HIRE_DATE_INVALID("La fecha de contratacion debe tener formato yyyy-MM-dd y ser valida."),
+        DEPARTMENT_BLANK("El departamento no puede estar vacio.");
+
+        private final String message;
+
+        Violation(String message) {
+            this.message = message;
+        }
+
+        public int mask() {
+            return 1 << ordinal();
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    private static final Violation[] VIOLATIONS = Violation.values();
+
+    private final int[] masks;
+    private final int invalidCount;
+
+    ValidationReport(int[] masks) {
+        this.masks = masks;
+        int invalid = 0;
+        for (int mask : masks) {
+            if (mask != 0) {
+                invalid++;
+            }
+        }
+        this.invalidCount = invalid;
+    }
+
+    public boolean isValid() {
+        return invalidCount == 0;
+    }
+
+    public int size() {
+        return masks.length;
+    }
+
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    public boolean isValid(int row) {
+        return masks[row] == 0;
+    }
+
+    // Mascara cruda de la fila, util para filtrar sin crear objetos
+    public int mask(int row) {
+        return masks[row];
+    }
+
+    public List<Violation> violations(int row) {
+        return decode(masks[row]);
+    }
+
+    // Mensajes legibles de todas las filas invalidas, con el numero de fila (base 0)
+    public List<String> messages() {
+        List<String> messages = new ArrayList<>();
+        for (int row = 0; row < masks.length; row++) {
+            for (Violation violation : decode(masks[row])) {
+                messages.add("Fila " + row + ": " + violation.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    static List<Violation> decode(int mask) {
+        List<Violation> violations = new ArrayList<>();
+        for (Violation violation : VIOLATIONS) {
+            if ((mask & violation.mask()) != 0) {
+                violations.add(violation);
+            }
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,26 @@
+-- Historial append-only de versiones de empleados. Cada alta, modificacion y baja
+-- agrega una fila; nunca se actualizan ni eliminan filas existentes.
+-- La clave primaria (employee_id, valid_from) es el indice que resuelve las
+-- consultas "as of" con una busqueda O(log n) por empleado.
+CREATE TABLE IF NOT EXISTS employee_history (
+    employee_id INT NOT NULL,
+    valid_from  DATETIME(6) NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    position    VARCHAR(100) NOT NULL,
+    salary      DECIMAL(12,2) NOT NULL,
+    hire_date   DATE NOT NULL,
+    department  VARCHAR(100) NOT NULL,
+    deleted     BOOLEAN NOT NULL DEFAULT FALSE,
+    PRIMARY KEY (employee_id, valid_from)
+);
+
+-- Carga inicial: una version por cada empleado que aun no tenga historial.
+-- valid_from es la fecha de contratacion (a las 00:00 UTC), asi las consultas "as of"
+-- anteriores a la migracion ven a los empleados existentes desde que ingresaron. Se limita
+-- al momento actual para que una contratacion futura no adelante los cambios siguientes.
+-- El NOT EXISTS permite ejecutarla de nuevo (ej. tras una carga masiva) sin duplicar versiones.
+-- La base embebida de pruebas (EmbeddedDatabase.backfillHistory) usa la misma sentencia.
+INSERT INTO employee_history (employee_id, valid_from, name, position, salary, hire_date, department, deleted)
+SELECT e.id, LEAST(CAST(e.hire_date AS DATETIME(6)), UTC_TIMESTAMP(6)), e.name, e.position, e.salary, e.hire_date, e.department, FALSE
+FROM employees e
+WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id);
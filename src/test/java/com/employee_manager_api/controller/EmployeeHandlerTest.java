@@ -0,0 +1,120 @@
+package com.employee_manager_api.controller;
+
+import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.loadtest.EmbeddedDatabase;
+import com.employee_manager_api.loadtest.FileSystemS3Client;
+import com.employee_manager_api.repository.EmployeeRepository;
+import com.employee_manager_api.service.EmployeeService;
+import com.employee_manager_api.util.S3EmployeeReader;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeHandlerTest {
+
+    @TempDir
+    Path bucket;
+
+    private final Gson gson = new Gson();
+    private EmbeddedDatabase database;
+    private EmployeeHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmbeddedDatabase("handler-" + UUID.randomUUID());
+        database.initSchema();
+        EmployeeService service = new EmployeeService(new EmployeeRepository(database.connectionProvider()),
+                new S3EmployeeReader("test", new FileSystemS3Client(bucket)));
+        handler = new EmployeeHandler(service);
+
+        // Empleado 1: alta el 10/01 y aumento el 05/03 a las 10:00 UTC. Empleado 2: baja el 01/02 a las 12:00 UTC.
+        insertVersion(1, "2024-01-10T00:00:00Z", 100.0, false);
+        insertVersion(1, "2024-03-05T10:00:00Z", 200.0, false);
+        insertVersion(2, "2024-01-10T00:00:00Z", 300.0, false);
+        insertVersion(2, "2024-02-01T12:00:00Z", 300.0, true);
+    }
+
+    @Test
+    void readsEmployeeAsOfEndOfDay() {
+        assertEquals(100.0, employee(get("employees/1", "2024-03-04")).getSalary());
+        // El cambio de las 10:00 ya rige al consultar ese mismo dia
+        assertEquals(200.0, employee(get("employees/1", "2024-03-05")).getSalary());
+        assertEquals(100.0, employee(get("employees/1", "2024-01-10")).getSalary());
+    }
+
+    @Test
+    void employeeDoesNotExistBeforeFirstVersion() {
+        Map<String, Object> response = get("employees/1", "2024-01-09");
+
+        assertEquals(200, response.get("statusCode"));
+        assertTrue(((String) response.get("body")).contains("No se encontro"));
+    }
+
+    @Test
+    void deletedEmployeeIsHiddenFromDayOfDeletion() {
+        assertEquals(300.0, employee(get("employees/2", "2024-01-31")).getSalary());
+        assertTrue(((String) get("employees/2", "2024-02-01").get("body")).contains("No se encontro"));
+
+        assertEquals(List.of(1, 2), ids(get("employees", "2024-01-31")));
+        assertEquals(List.of(1), ids(get("employees", "2024-02-01")));
+    }
+
+    @Test
+    void rejectsInvalidAsOfOnRoutesThatUseIt() {
+        assertEquals(400, get("employees", "2024-13-01").get("statusCode"));
+        assertEquals(400, get("employees/1", "ayer").get("statusCode"));
+    }
+
+    @Test
+    void ignoresAsOfOnOtherRoutes() {
+        assertEquals(200, get("employees/1/history", "ayer").get("statusCode"));
+        assertEquals(200, get("employees/salary/top", "ayer").get("statusCode"));
+    }
+
+    private Map<String, Object> get(String proxyPath, String asOf) {
+        Map<String, Object> input = new HashMap<>();
+        input.put("path", "/" + proxyPath);
+        input.put("httpMethod", "GET");
+        input.put("pathParameters", Map.of("proxy", proxyPath));
+        input.put("queryStringParameters", Map.of("asOf", asOf));
+        return handler.handleRequest(input, null);
+    }
+
+    private Employee employee(Map<String, Object> response) {
+        assertEquals(200, response.get("statusCode"));
+        return gson.fromJson((String) response.get("body"), Employee.class);
+    }
+
+    private List<Integer> ids(Map<String, Object> response) {
+        assertEquals(200, response.get("statusCode"));
+        return Arrays.stream(gson.fromJson((String) response.get("body"), Employee[].class))
+                .map(Employee::getId).sorted().collect(Collectors.toList());
+    }
+
+    private void insertVersion(int id, String validFrom, double salary, boolean deleted) throws Exception {
+        String sql = "INSERT INTO employee_history (employee_id, valid_from, name, position, salary, hire_date, department, deleted) "
+                + "VALUES (?, ?, 'Empleado', 'Dev', ?, '2024-01-10', 'IT', ?)";
+        try (Connection connection = database.connectionProvider().getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, id);
+            stmt.setTimestamp(2, Timestamp.from(Instant.parse(validFrom)));
+            stmt.setDouble(3, salary);
+            stmt.setBoolean(4, deleted);
+            stmt.executeUpdate();
+        }
+    }
+}
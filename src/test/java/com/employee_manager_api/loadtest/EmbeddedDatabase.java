@@ -0,0 +1,109 @@
+package com.employee_manager_api.loadtest;
+
+import com.employee_manager_api.config.ConnectionProvider;
+import com.employee_manager_api.domain.entity.Employee;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.*;
+import java.util.List;
+
+/**
+ * Base H2 en memoria en modo MySQL que replica la tabla de empleados y los
+ * stored procedures que usa {@link com.employee_manager_api.repository.EmployeeRepository},
+ * para poder ejecutar el handler sin RDS ni credenciales de AWS.
+ */
+public class EmbeddedDatabase {
+
+    private static final Logger logger = LogManager.getLogger(EmbeddedDatabase.class);
+
+    private static final String PROCEDURES = EmbeddedProcedures.class.getName();
+
+    private final String url;
+
+    public EmbeddedDatabase(String name) {
+        this.url = "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    }
+
+    // Crea la tabla y registra los stored procedures como alias de H2
+    public void initSchema() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS employees ("
+                    + "id INT AUTO_INCREMENT PRIMARY KEY, "
+                    + "name VARCHAR(100) NOT NULL, "
+                    + "position VARCHAR(100) NOT NULL, "
+                    + "salary DECIMAL(12,2) NOT NULL, "
+                    + "hire_date DATE NOT NULL, "
+                    + "department VARCHAR(100) NOT NULL)");
+
+            // Misma definicion que src/main/resources/db/employee_history.sql
+            stmt.execute("CREATE TABLE IF NOT EXISTS employee_history ("
+                    + "employee_id INT NOT NULL, "
+                    + "valid_from DATETIME(6) NOT NULL, "
+                    + "name VARCHAR(100) NOT NULL, "
+                    + "position VARCHAR(100) NOT NULL, "
+                    + "salary DECIMAL(12,2) NOT NULL, "
+                    + "hire_date DATE NOT NULL, "
+                    + "department VARCHAR(100) NOT NULL, "
+                    + "deleted BOOLEAN NOT NULL DEFAULT FALSE, "
+                    + "PRIMARY KEY (employee_id, valid_from))");
+
+            stmt.execute("CREATE ALIAS IF NOT EXISTS sp_get_all_employees FOR \"" + PROCEDURES + ".getAllEmployees\"");
+            stmt.execute("CREATE ALIAS IF NOT EXISTS sp_get_employee_by_id FOR \"" + PROCEDURES + ".getEmployeeById\"");
+            stmt.execute("CREATE ALIAS IF NOT EXISTS sp_create_employee FOR \"" + PROCEDURES + ".createEmployee\"");
+            stmt.execute("CREATE ALIAS IF NOT EXISTS sp_update_employee FOR \"" + PROCEDURES + ".updateEmployee\"");
+            stmt.execute("CREATE ALIAS IF NOT EXISTS sp_delete_employee FOR \"" + PROCEDURES + ".deleteEmployee\"");
+
+            // UTC_TIMESTAMP de MySQL, usado por el historial. Si la version de H2 ya la trae, se usa la propia.
+            try {
+                stmt.execute("CREATE ALIAS IF NOT EXISTS UTC_TIMESTAMP FOR \"" + PROCEDURES + ".utcTimestamp\"");
+            } catch (SQLException e) {
+                logger.debug("[LoadTest] UTC_TIMESTAMP ya disponible en H2: {}", e.getMessage());
+            }
+        }
+        logger.info("[LoadTest] Base embebida inicializada: {}", url);
+    }
+
+    // Inserta los empleados en lotes y devuelve la cantidad insertada
+    public int seed(List<Employee> employees) throws SQLException {
+        String sql = "INSERT INTO employees (name, position, salary, hire_date, department) VALUES (?, ?, ?, ?, ?)";
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (Employee employee : employees) {
+                stmt.setString(1, employee.getName());
+                stmt.setString(2, employee.getPosition());
+                stmt.setDouble(3, employee.getSalary());
+                stmt.setString(4, employee.getHireDate());
+                stmt.setString(5, employee.getDepartment());
+                stmt.addBatch();
+                if (++pending == 1_000) {
+                    stmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            stmt.executeBatch();
+            connection.commit();
+        }
+        logger.info("[LoadTest] {} empleados cargados en la base embebida", employees.size());
+        return employees.size();
+    }
+
+    // Registra la version actual de cada empleado que aun no tenga historial (carga inicial).
+    // Misma sentencia que src/main/resources/db/employee_history.sql: vigente desde la fecha de contratacion.
+    public void backfillHistory() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", ""); Statement stmt = connection.createStatement()) {
+            int rows = stmt.executeUpdate("INSERT INTO employee_history "
+                    + "(employee_id, valid_from, name, position, salary, hire_date, department, deleted) "
+                    + "SELECT e.id, LEAST(CAST(e.hire_date AS DATETIME(6)), UTC_TIMESTAMP(6)), e.name, e.position, e.salary, e.hire_date, e.department, FALSE "
+                    + "FROM employees e "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM employee_history h WHERE h.employee_id = e.id)");
+            logger.info("[LoadTest] {} versiones iniciales cargadas en el historial", rows);
+        }
+    }
+
+    // Provee una conexion nueva por llamada, igual que el repositorio espera (la cierra al terminar)
+    public ConnectionProvider connectionProvider() {
+        return () -> DriverManager.getConnection(url, "sa", "");
+    }
+}
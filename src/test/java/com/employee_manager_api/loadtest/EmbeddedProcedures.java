@@ -0,0 +1,62 @@
+package com.employee_manager_api.loadtest;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+// Implementacion Java de los stored procedures de MySQL, registrada en H2 mediante CREATE ALIAS
+public class EmbeddedProcedures {
+
+    private static final String COLUMNS = "id, name, position, salary, hire_date, department";
+
+    public static ResultSet getAllEmployees(Connection connection) throws SQLException {
+        return connection.createStatement().executeQuery("SELECT " + COLUMNS + " FROM employees");
+    }
+
+    public static ResultSet getEmployeeById(Connection connection, int id) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement("SELECT " + COLUMNS + " FROM employees WHERE id = ?");
+        stmt.setInt(1, id);
+        return stmt.executeQuery();
+    }
+
+    public static int createEmployee(Connection connection, String name, String position, double salary,
+                                     String hireDate, String department) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "INSERT INTO employees (name, position, salary, hire_date, department) VALUES (?, ?, ?, ?, ?)")) {
+            stmt.setString(1, name);
+            stmt.setString(2, position);
+            stmt.setDouble(3, salary);
+            stmt.setString(4, hireDate);
+            stmt.setString(5, department);
+            return stmt.executeUpdate();
+        }
+    }
+
+    public static int updateEmployee(Connection connection, int id, String name, String position, double salary,
+                                     String hireDate, String department) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "UPDATE employees SET name = ?, position = ?, salary = ?, hire_date = ?, department = ? WHERE id = ?")) {
+            stmt.setString(1, name);
+            stmt.setString(2, position);
+            stmt.setDouble(3, salary);
+            stmt.setString(4, hireDate);
+            stmt.setString(5, department);
+            stmt.setInt(6, id);
+            return stmt.executeUpdate();
+        }
+    }
+
+    public static int deleteEmployee(Connection connection, int id) throws SQLException {
+        try (PreparedStatement stmt = connection.prepareStatement("DELETE FROM employees WHERE id = ?")) {
+            stmt.setInt(1, id);
+            return stmt.executeUpdate();
+        }
+    }
+
+    // Equivalente a UTC_TIMESTAMP(fsp) de MySQL: fecha y hora UTC truncada a los decimales pedidos
+    public static LocalDateTime utcTimestamp(int precision) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        return precision >= 6 ? now.truncatedTo(ChronoUnit.MICROS) : now.truncatedTo(ChronoUnit.SECONDS);
+    }
+}
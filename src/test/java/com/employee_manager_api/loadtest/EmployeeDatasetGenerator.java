@@ -0,0 +1,341 @@
+package com.employee_manager_api.loadtest;
+
+import com.employee_manager_api.config.ConnectionProvider;
+import com.employee_manager_api.config.DatabaseConnection;
+import com.employee_manager_api.domain.entity.Employee;
+import com.google.gson.stream.JsonWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+
+/**
+ * Generador determinista de empleados sinteticos para pruebas de escala.
+ * Cada empleado depende solo de la semilla y de su id, por lo que el resultado
+ * es identico sin importar la cantidad de hilos. Escribe en paralelo archivos
+ * JSON (mismo formato que employee_data), NDJSON o TSV para LOAD DATA, de a un
+ * registro por vez, y tambien puede poblar una base con inserts en lotes.
+ *
+ * <p>Se ejecuta con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.employee_manager_api.loadtest.EmployeeDatasetGenerator -Ddataset.count=5000000}
+ *
+ * <p>Propiedades: dataset.count, dataset.seed, dataset.format (json|ndjson|bulk|db),
+ * dataset.outputDir, dataset.shards, dataset.threads, dataset.batchSize.
+ */
+public class EmployeeDatasetGenerator {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeDatasetGenerator.class);
+
+    public enum Format {
+        JSON(".json"), NDJSON(".ndjson"), BULK(".tsv");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    // Departamentos con pesos sesgados (pocos departamentos concentran la mayoria de empleados) y su salario base
+    private static final String[] DEPARTMENTS = {"Sales", "Operations", "IT", "Finance", "Marketing", "HR", "Legal", "Research"};
+    private static final double[] DEPARTMENT_WEIGHTS = {30, 22, 16, 10, 9, 6, 4, 3};
+    private static final double[] DEPARTMENT_BASE_SALARY = {42_000, 38_000, 65_000, 58_000, 48_000, 40_000, 70_000, 75_000};
+
+    // Cargos ordenados por seniority: muchos puestos junior y pocos gerenciales
+    private static final String[] POSITIONS = {"Assistant", "Coordinator", "Analyst", "Specialist", "Senior Specialist", "Manager", "Director"};
+    private static final double[] POSITION_WEIGHTS = {20, 22, 24, 18, 9, 5, 2};
+    private static final double[] POSITION_MULTIPLIER = {0.7, 0.85, 1.0, 1.2, 1.5, 2.0, 3.2};
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda",
+            "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah",
+            "Christian", "Karen", "Daniel", "Lisa", "Matthew", "Nancy", "Timothy", "Sandra", "Lucia", "Martin"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Wells", "Clark", "Lewis"};
+
+    private static final LocalDate FIRST_HIRE_DATE = LocalDate.of(2000, 1, 1);
+    private static final int HIRE_DATE_SPAN_DAYS = 25 * 365;
+
+    private static final double[] DEPARTMENT_CDF = cumulative(DEPARTMENT_WEIGHTS);
+    private static final double[] POSITION_CDF = cumulative(POSITION_WEIGHTS);
+
+    // Primera version en el historial de cada empleado insertado, con el mismo valid_from que la carga inicial
+    // de src/main/resources/db/employee_history.sql (fecha de contratacion, sin pasar del momento actual)
+    private static final String HISTORY_INSERT = "INSERT INTO employee_history "
+            + "(employee_id, name, position, salary, hire_date, department, valid_from, deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, LEAST(CAST(? AS DATETIME(6)), UTC_TIMESTAMP(6)), FALSE)";
+
+    private final long seed;
+
+    public EmployeeDatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        long count = Long.getLong("dataset.count", 1_000_000L);
+        long seed = Long.getLong("dataset.seed", 42L);
+        int threads = Integer.getInteger("dataset.threads", Runtime.getRuntime().availableProcessors());
+        String format = System.getProperty("dataset.format", "json").toUpperCase(Locale.ROOT);
+        EmployeeDatasetGenerator generator = new EmployeeDatasetGenerator(seed);
+
+        long startNanos = System.nanoTime();
+        if ("DB".equals(format)) {
+            // Puebla la base configurada en el entorno (RDS) con inserts en lotes.
+            // Cada hilo abre su propia conexion: la conexion compartida del singleton no admite
+            // transacciones concurrentes y se cerraria al terminar el primer hilo.
+            DatabaseConnection database = DatabaseConnection.getInstance();
+            generator.seedDatabase(database::openConnection, count,
+                    Integer.getInteger("dataset.batchSize", 1_000), threads);
+        } else {
+            Path outputDir = Paths.get(System.getProperty("dataset.outputDir", "target/dataset"));
+            generator.writeFiles(outputDir, Format.valueOf(format), count,
+                    Integer.getInteger("dataset.shards", 16), threads);
+        }
+        logger.info("[Dataset] {} empleados generados en {} ms", count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    // Completa el empleado indicado con los datos del id. Reutilizar el objeto evita una asignacion por registro.
+    public Employee fill(long id, Employee target) {
+        SplittableRandom random = new SplittableRandom(mix(seed ^ mix(id)));
+
+        int department = pick(DEPARTMENT_CDF, random.nextDouble());
+        int position = pick(POSITION_CDF, random.nextDouble());
+
+        // Salario log-normal alrededor de la base del departamento ajustada por seniority
+        double salary = DEPARTMENT_BASE_SALARY[department] * POSITION_MULTIPLIER[position]
+                * Math.exp(gaussian(random) * 0.25);
+
+        // Fechas sesgadas hacia contrataciones recientes
+        int daysBack = (int) (Math.pow(random.nextDouble(), 2) * HIRE_DATE_SPAN_DAYS);
+        LocalDate hireDate = FIRST_HIRE_DATE.plusDays(HIRE_DATE_SPAN_DAYS - daysBack);
+
+        target.setId((int) id);
+        target.setName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        target.setPosition(POSITIONS[position]);
+        target.setSalary(Math.round(salary * 100) / 100.0);
+        target.setHireDate(hireDate.toString());
+        target.setDepartment(DEPARTMENTS[department]);
+        return target;
+    }
+
+    // Escribe count empleados repartidos en shards archivos, en paralelo. Memoria constante por hilo.
+    public List<Path> writeFiles(Path outputDir, Format format, long count, int shards, int threads) throws Exception {
+        Files.createDirectories(outputDir);
+        int shardCount = (int) Math.max(1, Math.min(shards, count));
+        long perShard = (count + shardCount - 1) / shardCount;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<Path>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            long firstId = 1 + shard * perShard;
+            long lastId = Math.min(count, firstId + perShard - 1);
+            if (firstId > lastId) {
+                break;
+            }
+            Path file = outputDir.resolve(String.format("employees_synthetic_%05d%s", shard + 1, format.extension));
+            futures.add(executor.submit(() -> writeShard(file, format, firstId, lastId)));
+        }
+
+        List<Path> files = new ArrayList<>();
+        try {
+            for (Future<Path> future : futures) {
+                files.add(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("[Dataset] {} archivos {} escritos en {}", files.size(), format, outputDir);
+        return files;
+    }
+
+    // Escribe el rango de ids [firstId, lastId] en un archivo, un registro a la vez
+    private Path writeShard(Path file, Format format, long firstId, long lastId) throws IOException {
+        Employee employee = new Employee();
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            if (format == Format.BULK) {
+                for (long id = firstId; id <= lastId; id++) {
+                    writeBulkLine(writer, fill(id, employee));
+                }
+            } else {
+                JsonWriter json = new JsonWriter(writer);
+                boolean array = format == Format.JSON;
+                if (array) {
+                    json.setIndent("    ");
+                    json.beginArray();
+                } else {
+                    // NDJSON: varios objetos de nivel superior separados por salto de linea
+                    json.setLenient(true);
+                }
+                for (long id = firstId; id <= lastId; id++) {
+                    writeJson(json, fill(id, employee));
+                    if (!array) {
+                        writer.write('\n');
+                    }
+                }
+                if (array) {
+                    json.endArray();
+                }
+                json.flush();
+            }
+        }
+        logger.info("[Dataset] Archivo {} escrito (ids {} a {})", file.getFileName(), firstId, lastId);
+        return file;
+    }
+
+    // Mismo formato de campos que los archivos de employee_data
+    private void writeJson(JsonWriter json, Employee employee) throws IOException {
+        json.beginObject();
+        json.name("id").value(employee.getId());
+        json.name("name").value(employee.getName());
+        json.name("position").value(employee.getPosition());
+        json.name("salary").value(employee.getSalary());
+        json.name("hire_date").value(employee.getHireDate());
+        json.name("department").value(employee.getDepartment());
+        json.endObject();
+    }
+
+    // Linea separada por tabs, compatible con el formato por defecto de LOAD DATA INFILE
+    // (columnas: id, name, position, salary, hire_date, department)
+    private void writeBulkLine(Writer writer, Employee employee) throws IOException {
+        writer.write(Integer.toString(employee.getId()));
+        writer.write('\t');
+        writer.write(employee.getName());
+        writer.write('\t');
+        writer.write(employee.getPosition());
+        writer.write('\t');
+        writer.write(Double.toString(employee.getSalary()));
+        writer.write('\t');
+        writer.write(employee.getHireDate());
+        writer.write('\t');
+        writer.write(employee.getDepartment());
+        writer.write('\n');
+    }
+
+    // Inserta count empleados en la tabla employees, junto con su primera version en employee_history, usando lotes
+    // y repartiendo rangos de ids entre hilos.
+    // Cada hilo pide una conexion al provider y la cierra al terminar, asi que debe entregar una conexion independiente por llamada.
+    public void seedDatabase(ConnectionProvider connectionProvider, long count, int batchSize, int threads) throws Exception {
+        int workers = (int) Math.max(1, Math.min(threads, count));
+        long perWorker = (count + workers - 1) / workers;
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            long firstId = 1 + worker * perWorker;
+            long lastId = Math.min(count, firstId + perWorker - 1);
+            if (firstId > lastId) {
+                break;
+            }
+            futures.add(executor.submit(() -> insertRange(connectionProvider, firstId, lastId, batchSize)));
+        }
+
+        long inserted = 0;
+        try {
+            for (Future<Long> future : futures) {
+                inserted += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("[Dataset] {} empleados insertados en la base", inserted);
+    }
+
+    private long insertRange(ConnectionProvider connectionProvider, long firstId, long lastId, int batchSize) throws Exception {
+        String sql = "INSERT INTO employees (id, name, position, salary, hire_date, department) VALUES (?, ?, ?, ?, ?, ?)";
+        Employee employee = new Employee();
+        long inserted = 0;
+
+        try (Connection connection = connectionProvider.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(sql);
+             PreparedStatement historyStmt = connection.prepareStatement(HISTORY_INSERT)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (long id = firstId; id <= lastId; id++) {
+                fill(id, employee);
+                bind(stmt, employee);
+                stmt.addBatch();
+                bind(historyStmt, employee);
+                historyStmt.setString(7, employee.getHireDate());
+                historyStmt.addBatch();
+                if (++pending == batchSize) {
+                    stmt.executeBatch();
+                    historyStmt.executeBatch();
+                    connection.commit();
+                    inserted += pending;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                stmt.executeBatch();
+                historyStmt.executeBatch();
+                connection.commit();
+                inserted += pending;
+            }
+        }
+        return inserted;
+    }
+
+    // Completa los parametros comunes a employees y employee_history: id, name, position, salary, hire_date, department
+    private static void bind(PreparedStatement stmt, Employee employee) throws SQLException {
+        stmt.setInt(1, employee.getId());
+        stmt.setString(2, employee.getName());
+        stmt.setString(3, employee.getPosition());
+        stmt.setDouble(4, employee.getSalary());
+        stmt.setString(5, employee.getHireDate());
+        stmt.setString(6, employee.getDepartment());
+    }
+
+    // Normal estandar por Box-Muller
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+
+    private static int pick(double[] cdf, double value) {
+        for (int i = 0; i < cdf.length - 1; i++) {
+            if (value < cdf[i]) {
+                return i;
+            }
+        }
+        return cdf.length - 1;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double[] cdf = new double[weights.length];
+        double acc = 0;
+        for (int i = 0; i < weights.length; i++) {
+            acc += weights[i];
+            cdf[i] = acc / total;
+        }
+        return cdf;
+    }
+
+    // Mezclador de bits (finalizador de SplitMix64) para derivar una semilla independiente por id
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,111 @@
+package com.employee_manager_api.loadtest;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reemplazo local de S3 que sirve los objetos desde un directorio. Permite
+ * inyectar latencia, fallas y llamadas colgadas en getObject para ejercitar
+ * los deadlines, el hedging y el circuit breaker sin depender de AWS.
+ */
+public class FileSystemS3Client implements S3Client {
+
+    private final Path root;
+    private final long latencyMillis;
+    private final double failureRate;
+    private final double hangRate;
+    private final Random random;
+
+    public FileSystemS3Client(Path root) {
+        this(root, 0, 0, 0, 42);
+    }
+
+    // failureRate y hangRate son probabilidades entre 0 y 1 aplicadas a cada getObject
+    public FileSystemS3Client(Path root, long latencyMillis, double failureRate, double hangRate, long seed) {
+        this.root = root;
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+        this.hangRate = hangRate;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public String serviceName() {
+        return "s3-filesystem";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        String prefix = request.prefix() != null ? request.prefix() : "";
+        try (Stream<Path> files = Files.walk(root)) {
+            List<S3Object> objects = files
+                    .filter(Files::isRegularFile)
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> key.startsWith(prefix))
+                    .sorted()
+                    .map(key -> S3Object.builder().key(key).size(root.resolve(key).toFile().length()).build())
+                    .collect(Collectors.toList());
+            return ListObjectsV2Response.builder()
+                    .contents(objects)
+                    .keyCount(objects.size())
+                    .isTruncated(false)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        injectFaults(request.key());
+
+        Path file = root.resolve(request.key());
+        if (!Files.isRegularFile(file)) {
+            throw NoSuchKeyException.builder().message("No existe el objeto " + request.key()).build();
+        }
+        try {
+            GetObjectResponse response = GetObjectResponse.builder().contentLength(Files.size(file)).build();
+            return new ResponseInputStream<>(response, AbortableInputStream.create(Files.newInputStream(file)));
+        } catch (IOException e) {
+            throw SdkClientException.create("Error al leer " + file, e);
+        }
+    }
+
+    // Aplica la latencia configurada y, segun las probabilidades, falla o se cuelga hasta ser interrumpido
+    private void injectFaults(String key) {
+        double roll;
+        synchronized (random) {
+            roll = random.nextDouble();
+        }
+        try {
+            if (roll < hangRate) {
+                Thread.sleep(Long.MAX_VALUE);
+            }
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("Lectura de " + key + " interrumpida");
+        }
+        if (roll < hangRate + failureRate) {
+            throw SdkClientException.create("Falla inyectada al leer " + key);
+        }
+    }
+}
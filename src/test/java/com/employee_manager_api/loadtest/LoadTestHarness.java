@@ -0,0 +1,268 @@
+package com.employee_manager_api.loadtest;
+
+import com.employee_manager_api.controller.EmployeeHandler;
+import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.repository.EmployeeRepository;
+import com.employee_manager_api.service.EmployeeService;
+import com.employee_manager_api.util.S3EmployeeReader;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Generador de carga que invoca {@link EmployeeHandler#handleRequest} con
+ * eventos sinteticos de API Gateway a una tasa fija (modelo abierto), contra
+ * una base H2 embebida y un S3 respaldado por el filesystem. Informa por ruta
+ * throughput, percentiles de latencia, tasa de errores y bytes asignados.
+ *
+ * <p>Se ejecuta con:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.employee_manager_api.loadtest.LoadTestHarness -Dloadtest.rps=200}
+ *
+ * <p>Para datos a escala, loadtest.dataDir puede apuntar a la salida de
+ * {@link EmployeeDatasetGenerator} y loadtest.syntheticEmployees poblar la base con el mismo generador.
+ *
+ * <p>Propiedades: loadtest.rps, loadtest.durationSeconds, loadtest.warmupSeconds,
+ * loadtest.workers, loadtest.mix (ej. "list:40,get:40,top:10,create:5,update:5"),
+ * loadtest.dataDir, loadtest.syntheticEmployees, loadtest.s3LatencyMs, loadtest.s3FailureRate, loadtest.s3HangRate, loadtest.seed.
+ */
+public class LoadTestHarness {
+
+    private static final Logger logger = LogManager.getLogger(LoadTestHarness.class);
+
+    // Rutas soportadas por el handler y el metodo HTTP con que se invocan
+    enum Route {
+        LIST("GET"), GET("GET"), TOP("GET"), CREATE("POST"), UPDATE("PUT"), HISTORY("GET");
+
+        private final String httpMethod;
+
+        Route(String httpMethod) {
+            this.httpMethod = httpMethod;
+        }
+    }
+
+    private final EmployeeHandler handler;
+    private final Map<Route, Integer> mix;
+    private final int maxEmployeeId;
+    private final Gson gson = new Gson();
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public LoadTestHarness(EmployeeHandler handler, Map<Route, Integer> mix, int maxEmployeeId) {
+        this.handler = handler;
+        this.mix = mix;
+        this.maxEmployeeId = Math.max(1, maxEmployeeId);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rps = Integer.getInteger("loadtest.rps", 50);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+        int workers = Integer.getInteger("loadtest.workers", 32);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Path dataDir = Paths.get(System.getProperty("loadtest.dataDir", "src/main/resources/employee_data"));
+
+        // Stack local: H2 en modo MySQL + S3 sobre el filesystem (con fallas opcionales)
+        EmbeddedDatabase database = new EmbeddedDatabase("loadtest");
+        database.initSchema();
+        long syntheticEmployees = Long.getLong("loadtest.syntheticEmployees", 0L);
+        int seeded;
+        if (syntheticEmployees > 0) {
+            // Base a escala de produccion generada de forma determinista en lugar de los archivos de ejemplo
+            new EmployeeDatasetGenerator(seed).seedDatabase(database.connectionProvider(), syntheticEmployees,
+                    1_000, Runtime.getRuntime().availableProcessors());
+            seeded = (int) syntheticEmployees;
+        } else {
+            seeded = database.seed(readEmployees(dataDir));
+        }
+        database.backfillHistory();
+
+        FileSystemS3Client s3Client = new FileSystemS3Client(dataDir,
+                Long.getLong("loadtest.s3LatencyMs", 0L),
+                Double.parseDouble(System.getProperty("loadtest.s3FailureRate", "0")),
+                Double.parseDouble(System.getProperty("loadtest.s3HangRate", "0")),
+                seed);
+
+        EmployeeService service = new EmployeeService(
+                new EmployeeRepository(database.connectionProvider()),
+                new S3EmployeeReader("local", s3Client));
+
+        LoadTestHarness harness = new LoadTestHarness(new EmployeeHandler(service),
+                parseMix(System.getProperty("loadtest.mix", "list:40,get:40,top:10,create:5,update:5")), seeded);
+
+        if (warmupSeconds > 0) {
+            logger.info("[LoadTest] Warmup de {} s a {} rps", warmupSeconds, rps);
+            harness.run(rps, warmupSeconds, workers, seed);
+        }
+        logger.info("[LoadTest] Medicion de {} s a {} rps con {} workers", durationSeconds, rps, workers);
+        Map<Route, RouteStats> stats = harness.run(rps, durationSeconds, workers, seed + 1);
+        report(stats, durationSeconds);
+        System.exit(0);
+    }
+
+    // Ejecuta la carga durante el tiempo indicado y devuelve las metricas por ruta
+    public Map<Route, RouteStats> run(int rps, int durationSeconds, int workers, long seed) throws InterruptedException {
+        Map<Route, RouteStats> stats = new EnumMap<>(Route.class);
+        for (Route route : mix.keySet()) {
+            stats.put(route, new RouteStats(route.name()));
+        }
+
+        List<Route> weighted = new ArrayList<>();
+        mix.forEach((route, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(route);
+            }
+        });
+
+        Random random = new Random(seed);
+        ExecutorService workerPool = Executors.newFixedThreadPool(workers);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rps);
+        long start = System.nanoTime() + periodNanos;
+        AtomicLong tick = new AtomicLong();
+
+        // Modelo abierto: cada request tiene un instante planificado y la latencia se mide desde ahi,
+        // de modo que el tiempo en cola cuenta cuando el sistema no da abasto (sin coordinated omission)
+        ScheduledFuture<?> generator = scheduler.scheduleAtFixedRate(() -> {
+            long intendedStart = start + tick.getAndIncrement() * periodNanos;
+            Route route = weighted.get(random.nextInt(weighted.size()));
+            int id = 1 + random.nextInt(maxEmployeeId);
+            // La semilla del body se toma aqui, en el unico hilo del scheduler, para que la secuencia sea reproducible
+            long payloadSeed = random.nextLong();
+            workerPool.execute(() -> execute(route, id, payloadSeed, intendedStart, stats.get(route)));
+        }, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+        generator.cancel(false);
+        scheduler.shutdown();
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(60, TimeUnit.SECONDS)) {
+            logger.warn("[LoadTest] Quedaron requests sin terminar al cerrar la medicion");
+            workerPool.shutdownNow();
+        }
+        return stats;
+    }
+
+    // Invoca el handler con un evento sintetico y registra latencia, error y bytes asignados por el hilo
+    private void execute(Route route, int id, long payloadSeed, long intendedStart, RouteStats routeStats) {
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        boolean error;
+        try {
+            Map<String, Object> response = handler.handleRequest(buildEvent(route, id, payloadSeed), null);
+            Object statusCode = response.get("statusCode");
+            error = !(statusCode instanceof Integer) || (Integer) statusCode >= 400;
+        } catch (Exception e) {
+            error = true;
+        }
+        long latency = System.nanoTime() - intendedStart;
+        routeStats.record(latency, error, threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+    }
+
+    // Arma un evento con el mismo formato que envia API Gateway (proxy integration)
+    private Map<String, Object> buildEvent(Route route, int id, long payloadSeed) {
+        String proxy;
+        String body = null;
+        switch (route) {
+            case GET:
+                proxy = "employees/" + id;
+                break;
+            case HISTORY:
+                proxy = "employees/" + id + "/history";
+                break;
+            case TOP:
+                proxy = "employees/salary/top";
+                break;
+            case CREATE:
+                proxy = "employees";
+                body = gson.toJson(randomEmployee(id, payloadSeed));
+                break;
+            case UPDATE:
+                proxy = "employees/" + id;
+                body = gson.toJson(randomEmployee(id, payloadSeed));
+                break;
+            default:
+                proxy = "employees";
+        }
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("path", "/" + proxy);
+        event.put("httpMethod", route.httpMethod);
+        event.put("pathParameters", Map.of("proxy", proxy));
+        event.put("body", body);
+        return event;
+    }
+
+    // Empleado con la misma distribucion que el dataset, determinado por la semilla del request
+    private static Employee randomEmployee(int id, long payloadSeed) {
+        return new EmployeeDatasetGenerator(payloadSeed).fill(id, new Employee());
+    }
+
+    // Parsea una mezcla de rutas con formato "ruta:peso,ruta:peso"
+    static Map<Route, Integer> parseMix(String spec) {
+        Map<Route, Integer> mix = new EnumMap<>(Route.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split(":");
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1].strip()) : 1;
+            if (weight > 0) {
+                mix.put(Route.valueOf(pair[0].strip().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de rutas no puede estar vacia: " + spec);
+        }
+        return mix;
+    }
+
+    // Lee los archivos JSON del directorio de datos para cargar la base embebida
+    private static List<Employee> readEmployees(Path dataDir) throws Exception {
+        Gson fixtureGson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create();
+        List<Employee> employees = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dataDir)) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".json")).sorted()::iterator) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    List<Employee> batch = fixtureGson.fromJson(reader, new TypeToken<List<Employee>>() {
+                    }.getType());
+                    if (batch != null) {
+                        employees.addAll(batch);
+                    }
+                }
+            }
+        }
+        return employees;
+    }
+
+    private static void report(Map<Route, RouteStats> stats, int durationSeconds) {
+        logger.info(String.format("%-8s %9s %9s %8s %9s %9s %9s %9s %11s %9s",
+                "ruta", "requests", "req/s", "error%", "p50 ms", "p90 ms", "p99 ms", "max ms", "KB/req", "MB/s"));
+        for (RouteStats routeStats : stats.values()) {
+            long requests = routeStats.getRequests();
+            if (requests == 0) {
+                continue;
+            }
+            logger.info(String.format("%-8s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %11.1f %9.2f",
+                    routeStats.getRoute(), requests,
+                    requests / (double) durationSeconds,
+                    100.0 * routeStats.getErrors() / requests,
+                    routeStats.percentileMillis(50), routeStats.percentileMillis(90),
+                    routeStats.percentileMillis(99), routeStats.percentileMillis(100),
+                    routeStats.getAllocatedBytes() / 1024.0 / requests,
+                    routeStats.getAllocatedBytes() / 1024.0 / 1024.0 / durationSeconds));
+        }
+        // Los bytes asignados solo cuentan el hilo que atiende la request, no el pool de lectura de S3
+        logger.info("[LoadTest] Asignacion medida sobre el hilo worker de cada request");
+    }
+}
@@ -0,0 +1,64 @@
+package com.employee_manager_api.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Metricas acumuladas de una ruta: cantidad de requests, errores, latencias y bytes asignados
+public class RouteStats {
+
+    private final String route;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    // Latencias en nanosegundos, se guardan todas para calcular percentiles exactos al final
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+
+    public RouteStats(String route) {
+        this.route = route;
+    }
+
+    public void record(long latencyNanos, boolean error, long allocated) {
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        if (allocated > 0) {
+            allocatedBytes.add(allocated);
+        }
+        synchronized (this) {
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[latencyCount++] = latencyNanos;
+        }
+    }
+
+    // Devuelve el percentil indicado (0-100) en milisegundos
+    public synchronized double percentileMillis(double percentile) {
+        if (latencyCount == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(index, latencyCount - 1))] / 1_000_000.0;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+}
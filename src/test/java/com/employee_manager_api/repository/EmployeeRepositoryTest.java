@@ -0,0 +1,115 @@
+package com.employee_manager_api.repository;
+
+import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.domain.entity.EmployeeVersion;
+import com.employee_manager_api.loadtest.EmbeddedDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeRepositoryTest {
+
+    private EmbeddedDatabase database;
+    private EmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        database = new EmbeddedDatabase("repository-" + UUID.randomUUID());
+        database.initSchema();
+        repository = new EmployeeRepository(database.connectionProvider());
+    }
+
+    @Test
+    void updateKeepsPreviousVersionReadableAtEarlierInstant() throws Exception {
+        repository.createEmployee(new Employee(0, "Ana", "Dev", 100.0, "2024-01-10", "IT"));
+        repository.updateEmployee(new Employee(1, "Ana", "Lead", 200.0, "2024-01-10", "IT"));
+
+        List<EmployeeVersion> history = repository.getEmployeeHistory(1);
+        assertEquals(2, history.size());
+        Instant created = Instant.parse(history.get(0).getValidFrom());
+        Instant updated = Instant.parse(history.get(1).getValidFrom());
+        assertTrue(updated.isAfter(created));
+
+        // Solo cuentan las versiones con valid_from anterior al instante consultado
+        assertNull(repository.getEmployeeAsOf(1, created));
+        assertEquals(100.0, repository.getEmployeeAsOf(1, updated).getSalary());
+        assertEquals(200.0, repository.getEmployeeAsOf(1, updated.plusNanos(1_000)).getSalary());
+        assertEquals("Lead", repository.getEmployeeById(1).getPosition());
+    }
+
+    @Test
+    void deleteAppendsTombstone() throws Exception {
+        repository.createEmployee(new Employee(0, "Ana", "Dev", 100.0, "2024-01-10", "IT"));
+        repository.createEmployee(new Employee(0, "Luis", "QA", 150.0, "2024-02-01", "IT"));
+        repository.deleteEmployee(1);
+
+        List<EmployeeVersion> history = repository.getEmployeeHistory(1);
+        assertEquals(2, history.size());
+        assertTrue(history.get(1).isDeleted());
+        assertNull(repository.getEmployeeById(1));
+
+        Instant later = Instant.now().plus(1, ChronoUnit.DAYS);
+        assertNull(repository.getEmployeeAsOf(1, later));
+        assertEquals(List.of(2), ids(repository.getEmployeesAsOf(later)));
+        // Antes de la baja el empleado sigue visible
+        assertEquals("Ana", repository.getEmployeeAsOf(1, Instant.parse(history.get(1).getValidFrom())).getName());
+    }
+
+    @Test
+    void resolvesLatestVersionBeforeInstant() throws Exception {
+        insertVersion(1, "2024-01-10T00:00:00Z", 100.0, false);
+        insertVersion(1, "2024-03-05T10:00:00Z", 200.0, false);
+        insertVersion(2, "2024-01-10T00:00:00Z", 300.0, false);
+        insertVersion(2, "2024-02-01T12:00:00Z", 300.0, true);
+
+        assertNull(repository.getEmployeeAsOf(1, Instant.parse("2024-01-10T00:00:00Z")));
+        assertEquals(100.0, repository.getEmployeeAsOf(1, Instant.parse("2024-03-05T10:00:00Z")).getSalary());
+        assertEquals(200.0, repository.getEmployeeAsOf(1, Instant.parse("2024-03-05T10:00:00.000001Z")).getSalary());
+
+        assertEquals(List.of(1, 2), ids(repository.getEmployeesAsOf(Instant.parse("2024-02-01T12:00:00Z"))));
+        assertEquals(List.of(1), ids(repository.getEmployeesAsOf(Instant.parse("2024-02-02T00:00:00Z"))));
+    }
+
+    @Test
+    void backfillMakesExistingEmployeesVisibleSinceHireDate() throws Exception {
+        database.seed(List.of(
+                new Employee(0, "Ana", "Dev", 100.0, "2020-05-01", "IT"),
+                new Employee(0, "Luis", "QA", 150.0, "2999-01-01", "IT")));
+        database.backfillHistory();
+        // Ejecutarla de nuevo no agrega versiones
+        database.backfillHistory();
+
+        assertEquals(1, repository.getEmployeeHistory(1).size());
+        assertEquals(1, repository.getEmployeeHistory(2).size());
+        assertNull(repository.getEmployeeAsOf(1, Instant.parse("2020-04-30T00:00:00Z")));
+        assertEquals("Ana", repository.getEmployeeAsOf(1, Instant.parse("2020-05-02T00:00:00Z")).getName());
+        // Una contratacion futura queda vigente desde la carga, no desde su fecha
+        assertFalse(Instant.parse(repository.getEmployeeHistory(2).get(0).getValidFrom()).isAfter(Instant.now().plus(1, ChronoUnit.DAYS)));
+    }
+
+    private void insertVersion(int id, String validFrom, double salary, boolean deleted) throws Exception {
+        String sql = "INSERT INTO employee_history (employee_id, valid_from, name, position, salary, hire_date, department, deleted) "
+                + "VALUES (?, ?, 'Empleado', 'Dev', ?, '2024-01-10', 'IT', ?)";
+        try (Connection connection = database.connectionProvider().getConnection(); PreparedStatement stmt = connection.prepareStatement(sql)) {
+            stmt.setInt(1, id);
+            stmt.setTimestamp(2, Timestamp.from(Instant.parse(validFrom)));
+            stmt.setDouble(3, salary);
+            stmt.setBoolean(4, deleted);
+            stmt.executeUpdate();
+        }
+    }
+
+    private static List<Integer> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,207 @@
+package com.employee_manager_api.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientCallerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 2, 1_000, now::get);
+
+    // Solo IOException se considera transitoria
+    private ResilientCaller caller(long deadlineMillis, long hedgeDelayMillis, int maxAttempts, RetryBudget budget) {
+        return new ResilientCaller("test", breaker, budget, deadlineMillis, hedgeDelayMillis, maxAttempts, 0,
+                error -> error instanceof IOException);
+    }
+
+    @Test
+    void hedgeWinsAgainstSlowFirstAttempt() throws Exception {
+        ResilientCaller caller = caller(2_000, 50, 1, new RetryBudget(0.2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = caller.call("hedge", () -> {
+            int attempt = attempts.incrementAndGet();
+            if (attempt == 1) {
+                Thread.sleep(10_000);
+            }
+            return "intento " + attempt;
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals("intento 2", result);
+        assertTrue(elapsedMillis < 1_000, "el hedge debio responder antes, tardo " + elapsedMillis + " ms");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void hedgeIsSkippedWhenBudgetIsExhausted() {
+        RetryBudget budget = new RetryBudget(0, 1);
+        assertTrue(budget.tryAcquire());
+        ResilientCaller caller = caller(300, 50, 1, budget);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(TimeoutException.class, () -> caller.call("hedge", () -> {
+            attempts.incrementAndGet();
+            Thread.sleep(10_000);
+            return "tarde";
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void retriesTransientErrors() throws Exception {
+        ResilientCaller caller = caller(2_000, 0, 3, new RetryBudget(0.2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = caller.call("retry", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IOException("conexion reseteada");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void retriesAreLimitedByBudget() {
+        ResilientCaller caller = caller(2_000, 0, 5, new RetryBudget(0, 1));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IOException.class, () -> caller.call("retry", () -> {
+            attempts.incrementAndGet();
+            throw new IOException("caido");
+        }));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void nonTransientErrorsAreNotRetriedNorCountedAsFailures() {
+        ResilientCaller caller = caller(2_000, 0, 3, new RetryBudget(0.2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(IllegalArgumentException.class, () -> caller.call("parse", () -> {
+                attempts.incrementAndGet();
+                throw new IllegalArgumentException("JSON mal formado");
+            }));
+        }
+
+        assertEquals(5, attempts.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void deadlineStopsHungCallsAndOpensCircuit() {
+        ResilientCaller caller = caller(200, 0, 3, new RetryBudget(0.2, 10));
+
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            assertThrows(TimeoutException.class, () -> caller.call("hang", () -> {
+                Thread.sleep(10_000);
+                return "tarde";
+            }));
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void openCircuitRejectsWithoutCalling() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        ResilientCaller caller = caller(2_000, 0, 1, new RetryBudget(0.2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(CircuitOpenException.class, () -> caller.call("open", attempts::incrementAndGet));
+        assertEquals(0, attempts.get());
+    }
+
+    @Test
+    void interruptedProbeReleasesHalfOpenCircuit() throws Exception {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        now.addAndGet(1_000);
+        ResilientCaller caller = caller(10_000, 0, 1, new RetryBudget(0.2, 10));
+
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread probe = new Thread(() -> {
+            try {
+                caller.call("probe", () -> {
+                    started.countDown();
+                    Thread.sleep(10_000);
+                    return "tarde";
+                });
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+        probe.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        probe.interrupt();
+        probe.join(5_000);
+
+        assertInstanceOf(InterruptedException.class, error.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        // Pasado el periodo de apertura se permite una nueva prueba
+        now.addAndGet(1_000);
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    void inlineCallRunsOnceOnCallingThreadWithoutDeadline() throws Exception {
+        ResilientCaller caller = caller(50, 10, 3, new RetryBudget(0.2, 10));
+        Thread callerThread = Thread.currentThread();
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = caller.callInline("write", () -> {
+            attempts.incrementAndGet();
+            assertSame(callerThread, Thread.currentThread());
+            // Supera el deadline del caller, pero una escritura no se abandona
+            Thread.sleep(150);
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void inlineCallFeedsCircuitBreakerOnlyWithTransientErrors() {
+        ResilientCaller caller = caller(2_000, 0, 3, new RetryBudget(0.2, 10));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalArgumentException.class, () -> caller.callInline("write", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("restriccion violada");
+        }));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IOException.class, () -> caller.callInline("write", () -> {
+                attempts.incrementAndGet();
+                throw new IOException("conexion perdida");
+            }));
+        }
+        assertEquals(3, attempts.get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> caller.callInline("write", attempts::incrementAndGet));
+        assertEquals(3, attempts.get());
+    }
+}
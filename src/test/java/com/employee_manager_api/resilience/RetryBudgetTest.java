@@ -0,0 +1,50 @@
+package com.employee_manager_api.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsWithReserveAndRunsOut() {
+        RetryBudget budget = new RetryBudget(0.2, 2);
+
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void requestsRefillAFractionOfAToken() {
+        RetryBudget budget = new RetryBudget(0.5, 1);
+        assertTrue(budget.tryAcquire());
+
+        budget.recordRequest();
+        assertFalse(budget.tryAcquire());
+
+        budget.recordRequest();
+        assertTrue(budget.tryAcquire());
+    }
+
+    @Test
+    void tokensAreCappedAtReserve() {
+        RetryBudget budget = new RetryBudget(1, 3);
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        assertEquals(3, budget.getAvailableTokens(), 1e-9);
+    }
+
+    @Test
+    void zeroRatioNeverRefills() {
+        RetryBudget budget = new RetryBudget(0, 1);
+        assertTrue(budget.tryAcquire());
+        for (int i = 0; i < 10; i++) {
+            budget.recordRequest();
+        }
+
+        assertFalse(budget.tryAcquire());
+    }
+}
@@ -0,0 +1,123 @@
+package com.employee_manager_api.service;
+
+import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.loadtest.FileSystemS3Client;
+import com.employee_manager_api.repository.EmployeeRepository;
+import com.employee_manager_api.resilience.CircuitBreaker;
+import com.employee_manager_api.resilience.PartialResult;
+import com.employee_manager_api.resilience.ResilientCaller;
+import com.employee_manager_api.resilience.RetryBudget;
+import com.employee_manager_api.util.S3EmployeeReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeServiceTest {
+
+    @TempDir
+    Path bucket;
+
+    // Lector de S3 local donde getObject de "hang.json" no responde hasta ser interrumpido
+    private final Map<String, AtomicInteger> reads = new ConcurrentHashMap<>();
+
+    private EmployeeService service(int maxAttempts) {
+        FileSystemS3Client client = new FileSystemS3Client(bucket) {
+            @Override
+            public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+                reads.computeIfAbsent(request.key(), key -> new AtomicInteger()).incrementAndGet();
+                if (request.key().equals("hang.json")) {
+                    try {
+                        Thread.sleep(Long.MAX_VALUE);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw SdkClientException.create("Lectura interrumpida");
+                    }
+                }
+                return super.getObject(request);
+            }
+        };
+        ResilientCaller s3Caller = new ResilientCaller("S3", new CircuitBreaker("S3", 100, 30_000), new RetryBudget(0.2, 10),
+                300, 0, maxAttempts, 0, S3EmployeeReader::isTransient);
+        EmployeeRepository repository = new EmployeeRepository(() -> {
+            throw new SQLException("Sin base de datos en esta prueba");
+        });
+        return new EmployeeService(repository, new S3EmployeeReader("test", client), Executors.newFixedThreadPool(3), s3Caller, 2_000);
+    }
+
+    @Test
+    void readsAllFilesWhenNoneFail() throws Exception {
+        write("a.json", "[{\"id\":1,\"name\":\"Ana\",\"salary\":100.0},{\"id\":2,\"name\":\"Luis\",\"salary\":300.0}]");
+        write("b.json", "[{\"id\":3,\"name\":\"Eva\",\"salary\":200.0}]");
+
+        PartialResult<Employee> result = service(1).getTopSalariesReport();
+
+        assertTrue(result.isComplete());
+        assertEquals(List.of(2, 3, 1), ids(result.getItems()));
+    }
+
+    @Test
+    void hungFileIsSkippedWithinDeadline() throws Exception {
+        write("a.json", "[{\"id\":1,\"name\":\"Ana\",\"salary\":100.0}]");
+        write("hang.json", "[{\"id\":9,\"name\":\"Max\",\"salary\":900.0}]");
+
+        long start = System.nanoTime();
+        PartialResult<Employee> result = service(2).getTopSalariesReport();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertFalse(result.isComplete());
+        assertEquals(List.of("hang.json"), result.getSkipped());
+        assertEquals(List.of(1), ids(result.getItems()));
+        assertTrue(elapsedMillis < 2_000, "el reporte debio cortar por deadline, tardo " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void malformedFileIsSkippedWithoutRetry() throws Exception {
+        write("a.json", "[{\"id\":1,\"name\":\"Ana\",\"salary\":100.0}]");
+        write("bad.json", "[{\"id\":");
+
+        PartialResult<Employee> result = service(3).getTopSalariesReport();
+
+        assertEquals(List.of("bad.json"), result.getSkipped());
+        assertEquals(List.of(1), ids(result.getItems()));
+        assertEquals(1, reads.get("bad.json").get());
+    }
+
+    @Test
+    void keepsOnlyTopTen() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 15; i++) {
+            json.append(i > 1 ? "," : "").append("{\"id\":").append(i).append(",\"salary\":").append(i * 10.0).append('}');
+        }
+        write("many.json", json.append(']').toString());
+
+        List<Employee> top = service(1).getTopSalaries();
+
+        assertEquals(10, top.size());
+        assertEquals(15, top.get(0).getId());
+        assertEquals(6, top.get(9).getId());
+    }
+
+    private void write(String key, String content) throws Exception {
+        Files.writeString(bucket.resolve(key), content);
+    }
+
+    private static List<Integer> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).collect(Collectors.toList());
+    }
+}
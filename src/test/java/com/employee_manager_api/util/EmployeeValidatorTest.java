@@ -0,0 +1,132 @@
+package com.employee_manager_api.util;
+
+import com.employee_manager_api.domain.entity.Employee;
+import com.employee_manager_api.util.ValidationReport.Violation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeValidatorTest {
+
+    @Test
+    void acceptsRealDates() {
+        assertTrue(EmployeeValidator.isValidIsoDate("2024-01-31"));
+        assertTrue(EmployeeValidator.isValidIsoDate("2024-04-30"));
+        assertTrue(EmployeeValidator.isValidIsoDate("2023-12-31"));
+    }
+
+    @Test
+    void appliesGregorianLeapYearRules() {
+        assertTrue(EmployeeValidator.isValidIsoDate("2024-02-29"));
+        assertTrue(EmployeeValidator.isValidIsoDate("2000-02-29"));
+        assertFalse(EmployeeValidator.isValidIsoDate("1900-02-29"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2023-02-29"));
+    }
+
+    @Test
+    void rejectsDaysOutsideMonth() {
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-02-30"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-04-31"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-01-32"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-01-00"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-13-01"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-00-10"));
+        assertFalse(EmployeeValidator.isValidIsoDate("0000-01-01"));
+    }
+
+    @Test
+    void rejectsMalformedText() {
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-1a-01"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-01-0 "));
+        assertFalse(EmployeeValidator.isValidIsoDate("+024-01-01"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024/01/01"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-1-01"));
+        assertFalse(EmployeeValidator.isValidIsoDate("2024-01-011"));
+        assertFalse(EmployeeValidator.isValidIsoDate("２０２４-01-01"));
+    }
+
+    @Test
+    void rejectsNonFiniteOrNonPositiveSalary() {
+        for (double salary : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, -10}) {
+            assertEquals(Violation.SALARY_INVALID.mask(), EmployeeValidator.check(employee(salary, "2024-01-10")),
+                    "salario " + salary);
+        }
+        assertEquals(0, EmployeeValidator.check(employee(Double.MIN_VALUE, "2024-01-10")));
+    }
+
+    @Test
+    void reportsEveryViolationOfARow() {
+        Employee employee = new Employee(1, " ", null, Double.NaN, "2024-02-30", "");
+
+        assertEquals(List.of(Violation.NAME_BLANK, Violation.POSITION_BLANK, Violation.SALARY_INVALID,
+                        Violation.HIRE_DATE_INVALID, Violation.DEPARTMENT_BLANK),
+                ValidationReport.decode(EmployeeValidator.check(employee)));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> EmployeeValidator.validateFormat(employee));
+        assertTrue(error.getMessage().contains(Violation.NAME_BLANK.getMessage()));
+        assertTrue(error.getMessage().contains(Violation.DEPARTMENT_BLANK.getMessage()));
+    }
+
+    @Test
+    void distinguishesBlankAndInvalidHireDate() {
+        assertEquals(Violation.HIRE_DATE_BLANK.mask(), EmployeeValidator.check(employee(10, " ")));
+        assertEquals(Violation.HIRE_DATE_INVALID.mask(), EmployeeValidator.check(employee(10, "10/01/2024")));
+    }
+
+    @Test
+    void validatesSmallBatchWithNullRows() {
+        ValidationReport report = EmployeeValidator.validateBatch(Arrays.asList(
+                employee(10, "2024-01-10"), null, employee(-1, "2024-01-10")));
+
+        assertFalse(report.isValid());
+        assertEquals(3, report.size());
+        assertEquals(2, report.getInvalidCount());
+        assertTrue(report.isValid(0));
+        assertEquals(List.of(Violation.MISSING), report.violations(1));
+        assertEquals(List.of(Violation.SALARY_INVALID), report.violations(2));
+        assertEquals(List.of("Fila 1: " + Violation.MISSING.getMessage(), "Fila 2: " + Violation.SALARY_INVALID.getMessage()),
+                report.messages());
+    }
+
+    @Test
+    void parallelPathKeepsRowOrder() {
+        // Mas de dos bloques de CHUNK_SIZE, con filas invalidas en posiciones conocidas
+        int rows = 10_000;
+        List<Employee> employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(i % 997 == 0 ? employee(Double.NaN, "2023-02-29") : employee(1_000 + i, "2024-01-10"));
+        }
+
+        ValidationReport report = EmployeeValidator.validateBatch(employees);
+
+        assertEquals(rows, report.size());
+        assertEquals((rows + 996) / 997, report.getInvalidCount());
+        for (int i = 0; i < rows; i++) {
+            int expected = i % 997 == 0 ? Violation.SALARY_INVALID.mask() | Violation.HIRE_DATE_INVALID.mask() : 0;
+            assertEquals(expected, report.mask(i), "fila " + i);
+        }
+    }
+
+    @Test
+    void acceptsNonRandomAccessLists() {
+        List<Employee> employees = new LinkedList<>();
+        for (int i = 0; i < 5_000; i++) {
+            employees.add(employee(1_000, "2024-01-10"));
+        }
+        employees.add(null);
+
+        ValidationReport report = EmployeeValidator.validateBatch(employees);
+
+        assertEquals(1, report.getInvalidCount());
+        assertFalse(report.isValid(5_000));
+    }
+
+    private static Employee employee(double salary, String hireDate) {
+        return new Employee(1, "Ana", "Dev", salary, hireDate, "IT");
+    }
+}